@@ -0,0 +1,42 @@
+package io.jonasg.mother.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so every result is
+ * reported together with its allocation rate.
+ * <p>
+ * Accepts the regular JMH command line options, e.g.
+ * {@code java -jar benchmarks/target/benchmarks.jar JsonMother -p size=LARGE}.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+		var commandLineOptions = new CommandLineOptions(args);
+		var runner = new Runner(new OptionsBuilder()
+				.parent(commandLineOptions)
+				.addProfiler(GCProfiler.class)
+				.build());
+
+		if (commandLineOptions.shouldHelp()) {
+			commandLineOptions.showHelp();
+		} else if (commandLineOptions.shouldList()) {
+			runner.list();
+		} else if (commandLineOptions.shouldListWithParams()) {
+			runner.listWithParams(commandLineOptions);
+		} else {
+			runner.run();
+		}
+	}
+}
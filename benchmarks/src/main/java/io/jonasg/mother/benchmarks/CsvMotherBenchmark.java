@@ -0,0 +1,72 @@
+package io.jonasg.mother.benchmarks;
+
+import io.jonasg.mother.csv.CsvMother;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading, editing and building a {@link CsvMother}.
+ * <p>
+ * A CsvMother can not be copied, so the edit benchmarks include loading the
+ * fixture; compare them with {@link #load()}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvMotherBenchmark {
+
+	private static final int EDITS = 100;
+
+	@Param
+	private FixtureSize size;
+
+	private String resource;
+	private CsvMother loaded;
+
+	@Setup
+	public void setUp() {
+		resource = size.resource("csv");
+		loaded = CsvMother.of(resource);
+	}
+
+	@Benchmark
+	public CsvMother load() {
+		return CsvMother.of(resource);
+	}
+
+	@Benchmark
+	public String singleEdit() {
+		return CsvMother.of(resource)
+				.withRowColumnValue(0, "title", "Edited")
+				.build();
+	}
+
+	@Benchmark
+	public String manyEdits() {
+		CsvMother mother = CsvMother.of(resource);
+		for (int i = 0; i < EDITS; i++) {
+			mother.withRowColumnValue(i % size.books(), "price", i);
+		}
+		return mother.build();
+	}
+
+	@Benchmark
+	public String build() {
+		return loaded.build();
+	}
+}
@@ -0,0 +1,36 @@
+package io.jonasg.mother.benchmarks;
+
+/**
+ * The sizes of the generated fixtures, expressed as the number of books in a
+ * fixture.
+ */
+public enum FixtureSize {
+
+	SMALL(10),
+
+	MEDIUM(1_000),
+
+	LARGE(50_000);
+
+	private final int books;
+
+	FixtureSize(int books) {
+		this.books = books;
+	}
+
+	/**
+	 * @return the number of books in a fixture of this size
+	 */
+	public int books() {
+		return books;
+	}
+
+	/**
+	 * @param extension
+	 *            the file extension of the fixture, e.g. "json"
+	 * @return the classpath location of the fixture of this size
+	 */
+	public String resource(String extension) {
+		return "fixtures/books-" + name().toLowerCase() + "." + extension;
+	}
+}
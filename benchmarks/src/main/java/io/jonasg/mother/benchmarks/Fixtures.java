@@ -0,0 +1,81 @@
+package io.jonasg.mother.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Generates a JSON, CSV and XML fixture for every {@link FixtureSize}.
+ * <p>
+ * Runs during the build and writes the fixtures into the output directory so
+ * the benchmarks can load them from the classpath like any other mother
+ * resource.
+ * </p>
+ */
+public final class Fixtures {
+
+	private Fixtures() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: Fixtures <output directory>");
+		}
+		Path outputDirectory = Path.of(args[0]);
+		for (FixtureSize size : FixtureSize.values()) {
+			write(outputDirectory.resolve(size.resource("json")), size, Fixtures::json);
+			write(outputDirectory.resolve(size.resource("csv")), size, Fixtures::csv);
+			write(outputDirectory.resolve(size.resource("xml")), size, Fixtures::xml);
+		}
+	}
+
+	private static void json(Writer writer, int books) throws IOException {
+		writer.write("{\n  \"id\": 1,\n  \"title\": \"Library\",\n  \"owner\": {\n    \"name\": \"Jane Doe\"\n  },\n");
+		writer.write("  \"books\": [\n");
+		for (int i = 0; i < books; i++) {
+			writer.write(String.format(Locale.ROOT,
+					"    {\"id\": %d, \"title\": \"Book %d\", \"author\": {\"name\": \"Author %d\"}, "
+							+ "\"price\": %.2f, \"genres\": [\"novel\", \"fiction\"]}%s\n",
+					i, i, i % 100, price(i), i < books - 1 ? "," : ""));
+		}
+		writer.write("  ]\n}\n");
+	}
+
+	private static void csv(Writer writer, int books) throws IOException {
+		writer.write("id,title,author,price,genre\n");
+		for (int i = 0; i < books; i++) {
+			writer.write(String.format(Locale.ROOT, "%d,Book %d,Author %d,%.2f,novel\n", i, i, i % 100, price(i)));
+		}
+	}
+
+	private static void xml(Writer writer, int books) throws IOException {
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<library id=\"1\">\n  <title>Library</title>\n");
+		writer.write("  <books>\n");
+		for (int i = 0; i < books; i++) {
+			writer.write(String.format(Locale.ROOT,
+					"    <book id=\"%d\"><title>Book %d</title><author><name>Author %d</name></author>"
+							+ "<price>%.2f</price><genre>novel</genre></book>\n",
+					i, i, i % 100, price(i)));
+		}
+		writer.write("  </books>\n</library>\n");
+	}
+
+	private static double price(int i) {
+		return 5 + (i % 50) * 0.5;
+	}
+
+	private static void write(Path file, FixtureSize size, FixtureWriter fixtureWriter) throws IOException {
+		Files.createDirectories(file.getParent());
+		try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			fixtureWriter.write(writer, size.books());
+		}
+	}
+
+	@FunctionalInterface
+	private interface FixtureWriter {
+		void write(Writer writer, int books) throws IOException;
+	}
+}
@@ -0,0 +1,89 @@
+package io.jonasg.mother.benchmarks;
+
+import io.jonasg.mother.json.JsonLayout;
+import io.jonasg.mother.json.JsonMother;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading, editing and building a {@link JsonMother}.
+ * <p>
+ * The edit benchmarks work on a {@link JsonMother#fork() fork} of a loaded
+ * mother so they measure the edits rather than the load.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMotherBenchmark {
+
+	private static final int EDITS = 100;
+
+	@Param
+	private FixtureSize size;
+
+	private String resource;
+	private JsonMother loaded;
+	private String[] pricePointers;
+
+	@Setup
+	public void setUp() {
+		resource = size.resource("json");
+		loaded = JsonMother.of(resource);
+		pricePointers = new String[EDITS];
+		for (int i = 0; i < EDITS; i++) {
+			pricePointers[i] = "/books/" + (i % size.books()) + "/price";
+		}
+	}
+
+	@Benchmark
+	public JsonMother coldLoad() {
+		JsonMother.templateCache(JsonMother.class.getClassLoader()).clear();
+		return JsonMother.of(resource);
+	}
+
+	@Benchmark
+	public JsonMother cachedLoad() {
+		return JsonMother.of(resource);
+	}
+
+	@Benchmark
+	public String singleEdit() {
+		return loaded.fork()
+				.withProperty("/owner/name", "John Doe")
+				.build(JsonLayout.COMPACT);
+	}
+
+	@Benchmark
+	public String manyEdits() {
+		JsonMother mother = loaded.fork();
+		for (int i = 0; i < EDITS; i++) {
+			mother.withProperty(pricePointers[i], i);
+		}
+		return mother.build(JsonLayout.COMPACT);
+	}
+
+	@Benchmark
+	public String build() {
+		return loaded.build();
+	}
+
+	@Benchmark
+	public byte[] buildCompactBytes() {
+		return loaded.buildBytes(JsonLayout.COMPACT);
+	}
+}
@@ -0,0 +1,77 @@
+package io.jonasg.mother.benchmarks;
+
+import io.jonasg.mother.xml.XmlMother;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading, editing and building an {@link XmlMother}.
+ * <p>
+ * An XmlMother can not be copied, so the edit benchmarks include loading the
+ * fixture; compare them with {@link #load()}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlMotherBenchmark {
+
+	private static final int EDITS = 100;
+
+	@Param
+	private FixtureSize size;
+
+	private String resource;
+	private XmlMother loaded;
+	private String[] priceExpressions;
+
+	@Setup
+	public void setUp() {
+		resource = size.resource("xml");
+		loaded = XmlMother.of(resource);
+		priceExpressions = new String[EDITS];
+		for (int i = 0; i < EDITS; i++) {
+			priceExpressions[i] = "//books/book[" + (i % size.books() + 1) + "]/price";
+		}
+	}
+
+	@Benchmark
+	public XmlMother load() {
+		return XmlMother.of(resource);
+	}
+
+	@Benchmark
+	public String singleEdit() {
+		return XmlMother.of(resource)
+				.withElement("//title", "Edited")
+				.build();
+	}
+
+	@Benchmark
+	public String manyEdits() {
+		XmlMother mother = XmlMother.of(resource);
+		for (int i = 0; i < EDITS; i++) {
+			mother.withElement(priceExpressions[i], String.valueOf(i));
+		}
+		return mother.build();
+	}
+
+	@Benchmark
+	public String build() {
+		return loaded.build();
+	}
+}
@@ -0,0 +1,152 @@
+package io.jonasg.mother.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of built mother outputs keyed by {@link EditFingerprint}.
+ * <p>
+ * Mothers that have the build cache enabled look up their fingerprint before
+ * serializing, an identical mother built before returns the stored output
+ * without writing its structure again. When the cache is full the least
+ * recently used output is evicted.
+ * </p>
+ *
+ * <pre>
+ * String json = JsonMother.of("data/book.json")
+ * 		.withBuildCache()
+ * 		.withProperty("/author/name", "Ernest Hemingway")
+ * 		.build();
+ * </pre>
+ */
+public final class BuildCache {
+
+	/**
+	 * The maximum number of outputs kept by the {@link #shared() shared} cache.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	private static final BuildCache SHARED = new BuildCache(DEFAULT_MAXIMUM_SIZE);
+
+	private final Map<Object, Object> outputs;
+	private final int maximumSize;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private BuildCache(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+		}
+		this.maximumSize = maximumSize;
+		this.outputs = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+				return size() > BuildCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * @return the cache used by the mothers' {@code withBuildCache()} methods
+	 */
+	public static BuildCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Creates a new, empty cache.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of outputs kept before the least recently
+	 *            used one is evicted
+	 * @return a new BuildCache
+	 * @throws IllegalArgumentException
+	 *             if the maximum size is less than 1
+	 */
+	public static BuildCache of(int maximumSize) {
+		return new BuildCache(maximumSize);
+	}
+
+	/**
+	 * Returns the output stored for the given fingerprint and kind of output,
+	 * building and storing it when it is not cached yet. Uncacheable
+	 * fingerprints are always built and never stored.
+	 *
+	 * @param fingerprint
+	 *            the fingerprint of the mother
+	 * @param output
+	 *            the kind of output, e.g. {@code string:PRETTY}
+	 * @param build
+	 *            builds the output; must return a String or a byte array
+	 * @return the output, byte arrays are copied so callers may modify them
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(EditFingerprint fingerprint, String output, Supplier<T> build) {
+		Object key = fingerprint.key(output);
+		if (key == null) {
+			return build.get();
+		}
+		Object cached;
+		synchronized (outputs) {
+			cached = outputs.get(key);
+		}
+		if (cached != null) {
+			hits.incrementAndGet();
+			return (T) copy(cached);
+		}
+		misses.incrementAndGet();
+		T built = build.get();
+		synchronized (outputs) {
+			outputs.put(key, copy(built));
+		}
+		return built;
+	}
+
+	/**
+	 * @return the number of builds that were served from the cache
+	 */
+	public long hitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of cacheable builds that had to be built
+	 */
+	public long missCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the number of outputs currently cached
+	 */
+	public int size() {
+		synchronized (outputs) {
+			return outputs.size();
+		}
+	}
+
+	/**
+	 * @return the maximum number of outputs kept before the least recently used
+	 *         one is evicted
+	 */
+	public int maximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Removes all cached outputs and resets the hit and miss counters.
+	 */
+	public void clear() {
+		synchronized (outputs) {
+			outputs.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	private static Object copy(Object output) {
+		return output instanceof byte[] bytes ? bytes.clone() : output;
+	}
+}
@@ -0,0 +1,75 @@
+package io.jonasg.mother.core;
+
+/**
+ * Records a mother building its output, both as a {@link MotherBuildEvent} and
+ * through the registered {@link MotherMetrics}.
+ *
+ * <pre>
+ * var recording = BuildRecording.start();
+ * String json = write();
+ * if (recording.shouldRecord()) {
+ * 	recording.record("JsonMother", resource, "PRETTY", editCount, MotherBuildEvent.utf8Length(json));
+ * }
+ * </pre>
+ */
+public final class BuildRecording {
+
+	private final MotherBuildEvent event = new MotherBuildEvent();
+	private final long start;
+
+	private BuildRecording() {
+		event.begin();
+		start = MotherMetricsHolder.ENABLED ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * @return a recording started now
+	 */
+	public static BuildRecording start() {
+		return new BuildRecording();
+	}
+
+	/**
+	 * @return {@code true} if the build is recorded at all, i.e. whether it is
+	 *         worth measuring the size of the output while writing it
+	 */
+	public boolean isEnabled() {
+		return MotherMetricsHolder.ENABLED || event.isEnabled();
+	}
+
+	/**
+	 * @return {@code true} if {@link #record} should be called, i.e. whether it is
+	 *         worth computing the size of the output
+	 */
+	public boolean shouldRecord() {
+		return MotherMetricsHolder.ENABLED || event.shouldCommit();
+	}
+
+	/**
+	 * Ends the recording.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param resource
+	 *            the classpath resource or file the mother was created from
+	 * @param format
+	 *            the output format or layout, e.g. {@code PRETTY}
+	 * @param edits
+	 *            the number of edits made to the mother
+	 * @param size
+	 *            the size of the output in bytes
+	 */
+	public void record(String mother, String resource, String format, int edits, long size) {
+		if (event.shouldCommit()) {
+			event.mother = mother;
+			event.resource = resource;
+			event.format = format;
+			event.edits = edits;
+			event.size = size;
+			event.commit();
+		}
+		if (MotherMetricsHolder.ENABLED) {
+			MotherMetricsHolder.INSTANCE.built(mother, resource, format, System.nanoTime() - start, size);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package io.jonasg.mother.core;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A Writer that measures the UTF-8 encoded size of the characters written to
+ * the underlying writer, used to report the size of output written to a
+ * caller's writer. Closing it does not close the underlying writer.
+ */
+public final class CountingWriter extends FilterWriter {
+
+	private long count;
+
+	public CountingWriter(Writer out) {
+		super(out);
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		out.write(c);
+		count += MotherBuildEvent.utf8Length(String.valueOf((char) c));
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		out.write(cbuf, off, len);
+		count += MotherBuildEvent.utf8Length(CharBuffer.wrap(cbuf, off, len));
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		out.write(str, off, len);
+		count += MotherBuildEvent.utf8Length(str.subSequence(off, off + len));
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	/**
+	 * @return the UTF-8 encoded size in bytes of the characters written so far
+	 */
+	public long count() {
+		return count;
+	}
+}
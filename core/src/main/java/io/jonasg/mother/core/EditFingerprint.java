@@ -0,0 +1,158 @@
+package io.jonasg.mother.core;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Identifies the output of a mother by the resource it was created from
+ * together with the ordered list of edits applied to it, so that a
+ * {@link BuildCache} can hand out the output built earlier for an identical
+ * mother.
+ * <p>
+ * Only edits whose arguments are plain values can be fingerprinted: strings,
+ * numbers, booleans, characters, enums, {@code null}, and arrays of strings,
+ * collections and maps holding such values. Any other argument, e.g. a
+ * function or a predicate, makes the fingerprint uncacheable from then on.
+ * </p>
+ */
+public final class EditFingerprint {
+
+	private final @Nullable Object source;
+	/**
+	 * The normalized edits, {@code null} once an edit could not be fingerprinted.
+	 */
+	private @Nullable List<Object> edits;
+
+	private EditFingerprint(@Nullable Object source, @Nullable List<Object> edits) {
+		this.source = source;
+		this.edits = edits;
+	}
+
+	/**
+	 * @param source
+	 *            identifies the content the mother was created from, e.g. its type
+	 *            and classpath resource; {@code null} if the content can not be
+	 *            identified, which makes the fingerprint uncacheable
+	 * @return a fingerprint without edits
+	 */
+	public static EditFingerprint of(@Nullable Object source) {
+		return new EditFingerprint(source, source == null ? null : new ArrayList<>());
+	}
+
+	/**
+	 * Appends an edit.
+	 *
+	 * @param operation
+	 *            the name of the edit operation, e.g. {@code withProperty}
+	 * @param arguments
+	 *            the arguments of the edit
+	 */
+	public void add(String operation, @Nullable Object... arguments) {
+		if (edits == null) {
+			return;
+		}
+		List<Object> edit = new ArrayList<>(arguments.length + 1);
+		edit.add(operation);
+		for (Object argument : arguments) {
+			Object normalized = normalize(argument);
+			if (normalized == Uncacheable.INSTANCE) {
+				edits = null;
+				return;
+			}
+			edit.add(normalized);
+		}
+		edits.add(edit);
+	}
+
+	/**
+	 * @return an independent copy, e.g. for a forked mother
+	 */
+	public EditFingerprint copy() {
+		return new EditFingerprint(source, edits == null ? null : new ArrayList<>(edits));
+	}
+
+	/**
+	 * @return {@code true} if the source and all edits so far could be
+	 *         fingerprinted
+	 */
+	public boolean isCacheable() {
+		return edits != null;
+	}
+
+	/**
+	 * @return the immutable cache key for the given kind of output, {@code null} if
+	 *         the fingerprint is not cacheable
+	 */
+	@Nullable
+	Object key(String output) {
+		return edits == null ? null : new Key(source, output, List.copyOf(edits));
+	}
+
+	private static @Nullable Object normalize(@Nullable Object value) {
+		if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum<?>) {
+			return value;
+		}
+		if (value instanceof CharSequence text) {
+			return text.toString();
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+				|| value instanceof Double || value instanceof Float || value instanceof BigInteger
+				|| value instanceof BigDecimal) {
+			return value;
+		}
+		if (value instanceof String[] array) {
+			return normalizeAll(List.of(array));
+		}
+		if (value instanceof Collection<?> collection) {
+			return normalizeAll(collection);
+		}
+		if (value instanceof Map<?, ?> map) {
+			List<Object> entries = new ArrayList<>(map.size() * 2);
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				Object key = normalize(entry.getKey());
+				Object entryValue = normalize(entry.getValue());
+				if (key == Uncacheable.INSTANCE || entryValue == Uncacheable.INSTANCE) {
+					return Uncacheable.INSTANCE;
+				}
+				entries.add(key);
+				entries.add(entryValue);
+			}
+			return new Entries(Collections.unmodifiableList(entries));
+		}
+		return Uncacheable.INSTANCE;
+	}
+
+	private static Object normalizeAll(Collection<?> values) {
+		List<Object> normalized = new ArrayList<>(values.size());
+		for (Object value : values) {
+			Object element = normalize(value);
+			if (element == Uncacheable.INSTANCE) {
+				return Uncacheable.INSTANCE;
+			}
+			normalized.add(element);
+		}
+		return Collections.unmodifiableList(normalized);
+	}
+
+	private record Key(@Nullable Object source, String output, List<Object> edits) {
+	}
+
+	/**
+	 * The entries of a map in iteration order, distinct from a list holding the
+	 * same keys and values.
+	 */
+	private record Entries(List<Object> keysAndValues) {
+	}
+
+	private enum Uncacheable {
+		INSTANCE
+	}
+}
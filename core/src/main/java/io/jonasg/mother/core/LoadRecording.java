@@ -0,0 +1,76 @@
+package io.jonasg.mother.core;
+
+/**
+ * Records a mother loading its resource, both as a {@link MotherLoadEvent} and
+ * through the registered {@link MotherMetrics}.
+ *
+ * <pre>
+ * var recording = LoadRecording.start("JsonMother", filePath);
+ * // on a cache miss
+ * recording.parsed(content.length, parseDurationNanos);
+ * recording.finish();
+ * </pre>
+ */
+public final class LoadRecording {
+
+	private final MotherLoadEvent event = new MotherLoadEvent();
+	private final String mother;
+	private final String resource;
+	private boolean cacheHit = true;
+	private long size;
+	private long parseDuration;
+
+	private LoadRecording(String mother, String resource) {
+		this.mother = mother;
+		this.resource = resource;
+		event.begin();
+	}
+
+	/**
+	 * Starts recording a load; a load without {@link #parsed(long, long)} counts
+	 * as served from a cache.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param resource
+	 *            the classpath resource or file that is loaded
+	 * @return the started recording
+	 */
+	public static LoadRecording start(String mother, String resource) {
+		return new LoadRecording(mother, resource);
+	}
+
+	/**
+	 * Records that the resource was read and parsed.
+	 *
+	 * @param size
+	 *            the size of the resource in bytes
+	 * @param parseDurationNanos
+	 *            the time spent parsing, in nanoseconds
+	 */
+	public void parsed(long size, long parseDurationNanos) {
+		this.cacheHit = false;
+		this.size = size;
+		this.parseDuration = parseDurationNanos;
+		if (MotherMetricsHolder.ENABLED) {
+			MotherMetricsHolder.INSTANCE.parsed(mother, resource, size, parseDurationNanos);
+		}
+	}
+
+	/**
+	 * Ends the recording.
+	 */
+	public void finish() {
+		if (event.shouldCommit()) {
+			event.mother = mother;
+			event.resource = resource;
+			event.size = size;
+			event.parseDuration = parseDuration;
+			event.cacheHit = cacheHit;
+			event.commit();
+		}
+		if (MotherMetricsHolder.ENABLED) {
+			MotherMetricsHolder.INSTANCE.resourceLoaded(mother, resource, cacheHit);
+		}
+	}
+}
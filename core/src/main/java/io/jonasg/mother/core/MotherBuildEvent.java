@@ -0,0 +1,68 @@
+package io.jonasg.mother.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event emitted when a mother builds its output. The
+ * duration of the event covers applying pending edits and serializing.
+ */
+@Name("io.jonasg.mother.Build")
+@Label("Mother Build")
+@Category("Data Object Mother")
+@Description("Serialization of a mother to its output")
+@StackTrace(false)
+public final class MotherBuildEvent extends Event {
+
+	@Label("Mother")
+	@Description("The type of mother, e.g. JsonMother")
+	public String mother = "";
+
+	@Label("Resource")
+	@Description("The classpath resource or file the mother was loaded from")
+	public String resource = "";
+
+	@Label("Format")
+	@Description("The output format or layout, e.g. PRETTY")
+	public String format = "";
+
+	@Label("Edits")
+	@Description("The number of edits made to the mother since it was loaded")
+	public int edits;
+
+	@Label("Size")
+	@Description("The size of the output in bytes, UTF-8 encoded for textual output")
+	@DataAmount
+	public long size;
+
+	/**
+	 * Computes the number of bytes of the UTF-8 encoding of the given text without
+	 * encoding it.
+	 *
+	 * @param text
+	 *            the text to measure
+	 * @return the UTF-8 encoded length in bytes
+	 */
+	public static long utf8Length(CharSequence text) {
+		long length = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isSurrogate(c)) {
+				// each half of a surrogate pair accounts for half of its 4 bytes
+				length += 2;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+}
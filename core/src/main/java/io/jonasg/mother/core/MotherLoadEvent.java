@@ -0,0 +1,47 @@
+package io.jonasg.mother.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event emitted when a mother loads the resource it starts
+ * from.
+ * <p>
+ * The duration of the event covers locating, reading and parsing the resource,
+ * {@link #parseDuration} only the parsing.
+ * </p>
+ */
+@Name("io.jonasg.mother.Load")
+@Label("Mother Load")
+@Category("Data Object Mother")
+@Description("Loading and parsing of the resource a mother starts from")
+@StackTrace(false)
+public final class MotherLoadEvent extends Event {
+
+	@Label("Mother")
+	@Description("The type of mother, e.g. JsonMother")
+	public String mother = "";
+
+	@Label("Resource")
+	@Description("The classpath resource or file the mother was loaded from")
+	public String resource = "";
+
+	@Label("Size")
+	@Description("The size of the resource, 0 when it was served from a cache")
+	@DataAmount
+	public long size;
+
+	@Label("Parse Duration")
+	@Timespan
+	public long parseDuration;
+
+	@Label("Cache Hit")
+	@Description("Whether the parsed resource was served from a cache")
+	public boolean cacheHit;
+}
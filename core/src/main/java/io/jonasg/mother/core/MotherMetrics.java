@@ -0,0 +1,89 @@
+package io.jonasg.mother.core;
+
+/**
+ * Receives metrics about loading, editing and building mothers, e.g. to feed
+ * them into a metrics registry.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}:
+ * register the implementation in
+ * {@code META-INF/services/io.jonasg.mother.core.MotherMetrics}. All callbacks
+ * default to doing nothing, so implementations only override the ones they
+ * need. Callbacks are invoked on the thread using the mother and must be
+ * thread-safe. When no implementation is registered a no-op is used whose
+ * calls are removed by the JIT.
+ * </p>
+ *
+ * <pre>
+ * public class MicrometerMotherMetrics implements MotherMetrics {
+ * 	&#64;Override
+ * 	public void built(String mother, String resource, String format, long durationNanos, long size) {
+ * 		Metrics.timer("mother.build", "mother", mother).record(durationNanos, TimeUnit.NANOSECONDS);
+ * 	}
+ * }
+ * </pre>
+ */
+public interface MotherMetrics {
+
+	/**
+	 * @return the registered implementation, or a no-op when there is none
+	 */
+	static MotherMetrics instance() {
+		return MotherMetricsHolder.INSTANCE;
+	}
+
+	/**
+	 * Called whenever a mother is created from a resource.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param resource
+	 *            the classpath resource or file the mother is created from
+	 * @param cacheHit
+	 *            {@code true} when the parsed resource was served from a cache
+	 */
+	default void resourceLoaded(String mother, String resource, boolean cacheHit) {
+	}
+
+	/**
+	 * Called after a resource was read and parsed.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param resource
+	 *            the classpath resource or file that was parsed
+	 * @param size
+	 *            the size of the resource in bytes
+	 * @param durationNanos
+	 *            the time spent parsing, in nanoseconds
+	 */
+	default void parsed(String mother, String resource, long size, long durationNanos) {
+	}
+
+	/**
+	 * Called for every edit made to a mother.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param operation
+	 *            the name of the edit method, e.g. {@code withProperty}
+	 */
+	default void edited(String mother, String operation) {
+	}
+
+	/**
+	 * Called after a mother built its output.
+	 *
+	 * @param mother
+	 *            the type of mother, e.g. {@code JsonMother}
+	 * @param resource
+	 *            the classpath resource or file the mother was created from
+	 * @param format
+	 *            the output format or layout, e.g. {@code PRETTY}
+	 * @param durationNanos
+	 *            the time spent building, in nanoseconds
+	 * @param size
+	 *            the size of the output in bytes, UTF-8 encoded for textual output
+	 */
+	default void built(String mother, String resource, String format, long durationNanos, long size) {
+	}
+}
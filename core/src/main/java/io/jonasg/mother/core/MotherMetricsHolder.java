@@ -0,0 +1,59 @@
+package io.jonasg.mother.core;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Loads the {@link MotherMetrics} implementations once. Both fields are
+ * constants, so when nothing is registered the JIT removes the instrumentation
+ * entirely.
+ */
+final class MotherMetricsHolder {
+
+	static final MotherMetrics INSTANCE;
+	static final boolean ENABLED;
+
+	static {
+		List<MotherMetrics> registered = ServiceLoader.load(MotherMetrics.class, MotherMetrics.class.getClassLoader())
+				.stream()
+				.map(ServiceLoader.Provider::get)
+				.toList();
+		ENABLED = !registered.isEmpty();
+		if (registered.isEmpty()) {
+			INSTANCE = new NoopMotherMetrics();
+		} else if (registered.size() == 1) {
+			INSTANCE = registered.get(0);
+		} else {
+			INSTANCE = new CompositeMotherMetrics(registered);
+		}
+	}
+
+	private MotherMetricsHolder() {
+	}
+
+	private static final class NoopMotherMetrics implements MotherMetrics {
+	}
+
+	private record CompositeMotherMetrics(List<MotherMetrics> delegates) implements MotherMetrics {
+
+		@Override
+		public void resourceLoaded(String mother, String resource, boolean cacheHit) {
+			delegates.forEach(metrics -> metrics.resourceLoaded(mother, resource, cacheHit));
+		}
+
+		@Override
+		public void parsed(String mother, String resource, long size, long durationNanos) {
+			delegates.forEach(metrics -> metrics.parsed(mother, resource, size, durationNanos));
+		}
+
+		@Override
+		public void edited(String mother, String operation) {
+			delegates.forEach(metrics -> metrics.edited(mother, operation));
+		}
+
+		@Override
+		public void built(String mother, String resource, String format, long durationNanos, long size) {
+			delegates.forEach(metrics -> metrics.built(mother, resource, format, durationNanos, size));
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package io.jonasg.mother.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+class BuildCacheTest {
+
+	@Test
+	void returnsCachedOutputForEqualFingerprints() {
+		var cache = BuildCache.of(8);
+		var first = EditFingerprint.of("book.json");
+		first.add("withProperty /title", "Fiesta");
+		first.add("withProperty /genres", List.of("novel", 1));
+		var second = EditFingerprint.of("book.json");
+		second.add("withProperty /title", new StringBuilder("Fiesta"));
+		second.add("withProperty /genres", List.of("novel", 1));
+
+		String built = cache.get(first, "string", () -> "first");
+		String cached = cache.get(second, "string", () -> "second");
+		String otherOutput = cache.get(second, "bytes", () -> "third");
+
+		Assertions.assertEquals("first", built);
+		Assertions.assertEquals("first", cached);
+		Assertions.assertEquals("third", otherOutput);
+		Assertions.assertEquals(1, cache.hitCount());
+		Assertions.assertEquals(2, cache.missCount());
+	}
+
+	@Test
+	void distinguishesEditOrderAndMapsFromLists() {
+		var cache = BuildCache.of(8);
+		var map = new LinkedHashMap<String, Object>();
+		map.put("year", 1925);
+		var withMap = EditFingerprint.of("book.json");
+		withMap.add("withProperty /published", map);
+		var withList = EditFingerprint.of("book.json");
+		withList.add("withProperty /published", List.of("year", 1925));
+
+		cache.get(withMap, "string", () -> "map");
+
+		Assertions.assertEquals("list", cache.get(withList, "string", () -> "list"));
+		Assertions.assertEquals("map", cache.get(withMap.copy(), "string", () -> "copy"));
+		Assertions.assertEquals(1, cache.hitCount());
+	}
+
+	@Test
+	void neverCachesUncacheableFingerprints() {
+		var cache = BuildCache.of(8);
+		var withFunction = EditFingerprint.of("book.json");
+		withFunction.add("withPropertyAll /genres/*/type", Function.identity());
+		var withoutSource = EditFingerprint.of(null);
+
+		cache.get(withFunction, "string", () -> "function");
+		cache.get(withoutSource, "string", () -> "source");
+
+		Assertions.assertFalse(withFunction.isCacheable());
+		Assertions.assertFalse(withoutSource.isCacheable());
+		Assertions.assertEquals(0, cache.size());
+		Assertions.assertEquals(0, cache.missCount());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedOutputAndCopiesBytes() {
+		var cache = BuildCache.of(1);
+		var first = EditFingerprint.of(Map.of("resource", "first.json"));
+		var second = EditFingerprint.of(Map.of("resource", "second.json"));
+
+		byte[] built = cache.get(first, "bytes", () -> new byte[] { 1 });
+		built[0] = 2;
+		byte[] cached = cache.get(first, "bytes", () -> new byte[] { 3 });
+		cache.get(second, "bytes", () -> new byte[] { 4 });
+
+		Assertions.assertEquals(1, cached[0]);
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertEquals(5, cache.get(first, "bytes", () -> new byte[] { 5 })[0]);
+	}
+}
@@ -0,0 +1,44 @@
+package io.jonasg.mother.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+class MotherBuildEventTest {
+
+	@Test
+	void utf8LengthMatchesEncodedLength() {
+		String text = "ascii, é, € and 📚";
+
+		Assertions.assertEquals(text.getBytes(StandardCharsets.UTF_8).length, MotherBuildEvent.utf8Length(text));
+	}
+
+	@Test
+	void countingWriterMeasuresSurrogatePairsSplitAcrossWrites() throws IOException {
+		String text = "books 📚";
+		var countingWriter = new CountingWriter(new StringWriter());
+
+		countingWriter.write(text, 0, text.length() - 1);
+		countingWriter.write(text.charAt(text.length() - 1));
+
+		Assertions.assertEquals(text.getBytes(StandardCharsets.UTF_8).length, countingWriter.count());
+	}
+
+	@Test
+	void countingOutputStreamCountsBytesAndLeavesTargetOpen() throws IOException {
+		var target = new ByteArrayOutputStream();
+		var countingStream = new CountingOutputStream(target);
+
+		countingStream.write(new byte[] { 1, 2, 3 }, 1, 2);
+		countingStream.write(4);
+		countingStream.close();
+		target.write(5);
+
+		Assertions.assertEquals(3, countingStream.count());
+		Assertions.assertEquals(4, target.size());
+	}
+}
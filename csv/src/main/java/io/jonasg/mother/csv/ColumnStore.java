@@ -0,0 +1,275 @@
+package io.jonasg.mother.csv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column oriented storage of the rows of a CSV file: one array per column
+ * instead of one array per row.
+ * <p>
+ * Rows normally have one value per header column. Rows with fewer or more
+ * values are supported by keeping the number of values per row, which is only
+ * allocated once the first such row is stored.
+ * </p>
+ * <p>
+ * Removing a row only marks it as removed, the removed rows are dropped all at
+ * once by {@link #compact()}. Rows are therefore addressed by their position
+ * in the store, which only equals their position in the CSV while the store is
+ * compact. Columns that are looked up by key get a hash index from key to rows,
+ * built on the first lookup and kept up to date until the next compaction.
+ * </p>
+ */
+final class ColumnStore {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int defaultWidth;
+	private @Nullable String[][] columns;
+	/**
+	 * The number of values per row, {@code null} as long as every row has
+	 * {@link #defaultWidth} values.
+	 */
+	private int @Nullable [] widths;
+	private int capacity = INITIAL_CAPACITY;
+	private int size;
+	private final BitSet removed = new BitSet();
+	/**
+	 * The built key indexes by column position, mapping every key to the
+	 * ascending positions of the rows holding it.
+	 */
+	private final Map<Integer, Map<String, int[]>> indexes = new HashMap<>();
+
+	ColumnStore(int defaultWidth) {
+		this.defaultWidth = defaultWidth;
+		this.columns = new String[defaultWidth][INITIAL_CAPACITY];
+	}
+
+	/**
+	 * @return the number of stored rows, including the removed ones
+	 */
+	int size() {
+		return size;
+	}
+
+	boolean isRemoved(int row) {
+		return removed.get(row);
+	}
+
+	/**
+	 * @return the number of values of the given row
+	 */
+	int width(int row) {
+		return widths == null ? defaultWidth : widths[row];
+	}
+
+	void add(String[] values) {
+		ensureCapacity(size + 1);
+		ensureColumns(values.length);
+		for (int column = 0; column < values.length; column++) {
+			columns[column][size] = values[column];
+		}
+		setWidth(size, values.length);
+		for (Map.Entry<Integer, Map<String, int[]>> index : indexes.entrySet()) {
+			String key = get(size, index.getKey());
+			if (key != null) {
+				index.getValue().merge(key, new int[] { size }, (rows, row) -> insert(rows, size));
+			}
+		}
+		size++;
+	}
+
+	/**
+	 * @return the value, {@code null} if the row has no value for the column
+	 */
+	@Nullable
+	String get(int row, int column) {
+		return column < width(row) ? columns[column][row] : null;
+	}
+
+	/**
+	 * Sets a value, a row that is too short is padded with empty values.
+	 */
+	void set(int row, int column, String value) {
+		Map<String, int[]> index = indexes.get(column);
+		if (index != null) {
+			unindex(index, get(row, column), row);
+			index.merge(value, new int[] { row }, (rows, added) -> insert(rows, row));
+		}
+		int width = width(row);
+		if (column >= width) {
+			ensureColumns(column + 1);
+			for (int padded = width; padded < column; padded++) {
+				columns[padded][row] = "";
+			}
+			setWidth(row, column + 1);
+		}
+		columns[column][row] = value;
+	}
+
+	/**
+	 * Marks the row as removed.
+	 */
+	void remove(int row) {
+		removed.set(row);
+		for (Map.Entry<Integer, Map<String, int[]>> index : indexes.entrySet()) {
+			unindex(index.getValue(), get(row, index.getKey()), row);
+		}
+	}
+
+	/**
+	 * Drops the removed rows, moving the remaining rows to the positions they have
+	 * in the CSV. The key indexes are rebuilt on their next lookup.
+	 */
+	void compact() {
+		if (removed.isEmpty()) {
+			return;
+		}
+		int target = 0;
+		for (int row = 0; row < size; row++) {
+			if (removed.get(row)) {
+				continue;
+			}
+			if (target != row) {
+				for (String[] column : columns) {
+					column[target] = column[row];
+				}
+				if (widths != null) {
+					widths[target] = widths[row];
+				}
+			}
+			target++;
+		}
+		for (String[] column : columns) {
+			Arrays.fill(column, target, size, null);
+		}
+		size = target;
+		removed.clear();
+		indexes.clear();
+	}
+
+	/**
+	 * Builds the key index of the given column, unless it is built already.
+	 */
+	void index(int column) {
+		indexes.computeIfAbsent(column, this::buildIndex);
+	}
+
+	/**
+	 * @return the position of the first row that is not removed and holds the
+	 *         given key in the given column, {@code -1} if there is no such row
+	 */
+	int find(int column, String key) {
+		int[] rows = indexes.computeIfAbsent(column, this::buildIndex).get(key);
+		return rows == null ? -1 : rows[0];
+	}
+
+	/**
+	 * Copies the values of the given row into the target, which must be exactly
+	 * as long as the row is wide.
+	 */
+	void copyValues(int row, String[] target) {
+		for (int column = 0; column < target.length; column++) {
+			target[column] = columns[column][row];
+		}
+	}
+
+	/**
+	 * @return a new array holding the values of the given row
+	 */
+	String[] values(int row) {
+		String[] values = new String[width(row)];
+		for (int column = 0; column < values.length; column++) {
+			values[column] = columns[column][row];
+		}
+		return values;
+	}
+
+	private Map<String, int[]> buildIndex(int column) {
+		Map<String, int[]> index = new HashMap<>();
+		for (int row = 0; row < size; row++) {
+			String key = removed.get(row) ? null : get(row, column);
+			if (key != null) {
+				int position = row;
+				index.merge(key, new int[] { row }, (rows, added) -> insert(rows, position));
+			}
+		}
+		return index;
+	}
+
+	private static void unindex(Map<String, int[]> index, @Nullable String key, int row) {
+		if (key == null) {
+			return;
+		}
+		int[] rows = index.get(key);
+		if (rows == null) {
+			return;
+		}
+		if (rows.length == 1) {
+			if (rows[0] == row) {
+				index.remove(key);
+			}
+			return;
+		}
+		int position = Arrays.binarySearch(rows, row);
+		if (position >= 0) {
+			int[] remaining = new int[rows.length - 1];
+			System.arraycopy(rows, 0, remaining, 0, position);
+			System.arraycopy(rows, position + 1, remaining, position, remaining.length - position);
+			index.put(key, remaining);
+		}
+	}
+
+	private static int[] insert(int[] rows, int row) {
+		int position = Arrays.binarySearch(rows, row);
+		if (position >= 0) {
+			return rows;
+		}
+		int insertAt = -position - 1;
+		int[] inserted = new int[rows.length + 1];
+		System.arraycopy(rows, 0, inserted, 0, insertAt);
+		inserted[insertAt] = row;
+		System.arraycopy(rows, insertAt, inserted, insertAt + 1, rows.length - insertAt);
+		return inserted;
+	}
+
+	private void setWidth(int row, int width) {
+		if (widths == null) {
+			if (width == defaultWidth) {
+				return;
+			}
+			widths = new int[capacity];
+			Arrays.fill(widths, defaultWidth);
+		}
+		widths[row] = width;
+	}
+
+	private void ensureCapacity(int minimumCapacity) {
+		if (minimumCapacity <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(minimumCapacity, capacity + (capacity >> 1));
+		for (int column = 0; column < columns.length; column++) {
+			columns[column] = Arrays.copyOf(columns[column], newCapacity);
+		}
+		if (widths != null) {
+			widths = Arrays.copyOf(widths, newCapacity);
+			Arrays.fill(widths, capacity, newCapacity, defaultWidth);
+		}
+		capacity = newCapacity;
+	}
+
+	private void ensureColumns(int count) {
+		if (count <= columns.length) {
+			return;
+		}
+		int existing = columns.length;
+		columns = Arrays.copyOf(columns, count);
+		for (int column = existing; column < count; column++) {
+			columns[column] = new String[capacity];
+		}
+	}
+}
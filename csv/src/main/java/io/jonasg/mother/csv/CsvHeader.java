@@ -0,0 +1,92 @@
+package io.jonasg.mother.csv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The column names of a CSV file together with an index from name to position
+ * that is built once.
+ * <p>
+ * Every header is registered by its names array, which the mothers share with
+ * the {@link Row rows} they pass to predicates and functions, so that a row can
+ * look up a column by name without searching the names.
+ * </p>
+ */
+final class CsvHeader {
+
+	static final int NOT_FOUND = -1;
+
+	/**
+	 * The headers by their names array; arrays are compared by identity. The
+	 * values are weak as every header strongly refers to its key.
+	 */
+	private static final Map<String[], WeakReference<CsvHeader>> HEADERS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+	private static volatile @Nullable CsvHeader lastIndexed;
+
+	private final String[] names;
+	private final Map<String, Integer> positions;
+
+	CsvHeader(String[] names) {
+		this.names = names;
+		this.positions = new HashMap<>(names.length * 2);
+		for (int i = names.length - 1; i >= 0; i--) {
+			// the first of duplicate names wins, like a linear search would
+			positions.put(names[i], i);
+		}
+		HEADERS.put(names, new WeakReference<>(this));
+	}
+
+	/**
+	 * @return the header holding the given names array, {@code null} if the array
+	 *         is not the names array of a header
+	 */
+	static @Nullable CsvHeader indexed(String[] names) {
+		CsvHeader header = lastIndexed;
+		if (header != null && header.names == names) {
+			return header;
+		}
+		WeakReference<CsvHeader> reference = HEADERS.get(names);
+		header = reference == null ? null : reference.get();
+		if (header != null) {
+			lastIndexed = header;
+		}
+		return header;
+	}
+
+	String[] names() {
+		return names;
+	}
+
+	int size() {
+		return names.length;
+	}
+
+	/**
+	 * @return the position of the column, {@link #NOT_FOUND} if there is no such
+	 *         column
+	 */
+	int indexOf(String name) {
+		Integer position = positions.get(name);
+		return position == null ? NOT_FOUND : position;
+	}
+
+	/**
+	 * @return the position of the column
+	 * @throws IllegalArgumentException
+	 *             if there is no such column
+	 */
+	int require(String name) {
+		int position = indexOf(name);
+		if (position == NOT_FOUND) {
+			throw new IllegalArgumentException(
+					"Column '" + name + "' not found. Available columns: " + String.join(", ", names));
+		}
+		return position;
+	}
+}
@@ -4,14 +4,33 @@ import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
+import io.jonasg.mother.core.BuildCache;
+import io.jonasg.mother.core.BuildRecording;
+import io.jonasg.mother.core.CountingInputStream;
+import io.jonasg.mother.core.CountingWriter;
+import io.jonasg.mother.core.EditFingerprint;
+import io.jonasg.mother.core.LoadRecording;
+import io.jonasg.mother.core.MotherBuildEvent;
+import io.jonasg.mother.core.MotherMetrics;
+import org.jspecify.annotations.Nullable;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -22,21 +41,43 @@ import java.util.regex.Pattern;
  */
 public class CsvMother {
 
-	private final List<Row> rows = new ArrayList<>();
+	private static final String MOTHER = "CsvMother";
+
 	private final List<String[]> pendingRows = new ArrayList<>();
+	private final List<GeneratedRows> generatedRows = new ArrayList<>();
 	private final char delimiter;
-	private String[] headers;
+	private final String resource;
+	/**
+	 * Identifies the content this mother was created from for the build cache,
+	 * {@code null} if it can not be identified.
+	 */
+	private final @Nullable Object cacheSource;
+	private CsvHeader header;
+	private ColumnStore rows;
+	private String lineEnding = RowWriter.DEFAULT_LINE_ENDING;
+	private int editCount;
+	private @Nullable BuildCache buildCache;
+	private @Nullable EditFingerprint fingerprint;
 
 	protected CsvMother(String filePath) {
-		this.delimiter = ',';
-		parseCsv(filePath);
+		this(filePath, ',');
 	}
 
 	protected CsvMother(String filePath, char delimiter) {
 		this.delimiter = delimiter;
+		this.resource = filePath;
+		this.cacheSource = filePath;
 		parseCsv(filePath);
 	}
 
+	protected CsvMother(Path path, char delimiter) {
+		this.delimiter = delimiter;
+		this.resource = path.toString();
+		// the file can change in between loads
+		this.cacheSource = null;
+		loadCsv(path);
+	}
+
 	/**
 	 * Creates a new CsvMother instance by loading a CSV file from the classpath.
 	 *
@@ -119,6 +160,105 @@ public class CsvMother {
 		return new CsvMother(filePath, delimiter);
 	}
 
+	/**
+	 * Creates a new CsvMother instance by loading a comma separated file from the
+	 * file system.
+	 * <p>
+	 * The file is memory-mapped and split into chunks of complete records, which
+	 * are parsed in parallel, making this the fastest way to load large files.
+	 * Values are parsed as described by RFC 4180.
+	 * </p>
+	 *
+	 * @param path
+	 *            the path to the UTF-8 encoded CSV file
+	 * @return a new CsvMother instance initialized with the content of the
+	 *         specified CSV file
+	 * @throws RuntimeException
+	 *             if the file can not be read
+	 */
+	public static CsvMother of(Path path) {
+		return new CsvMother(path, ',');
+	}
+
+	/**
+	 * Creates a new CsvMother instance by loading a CSV file from the file system,
+	 * parsing parts of it in parallel.
+	 *
+	 * @param path
+	 *            the path to the UTF-8 encoded CSV file
+	 * @param delimiter
+	 *            delimiter used for the csv format (e.g., comma: ',', semicolon:
+	 *            ';'), which must be an ASCII character
+	 * @return a new CsvMother instance initialized with the content of the
+	 *         specified CSV file
+	 * @throws IllegalArgumentException
+	 *             if the delimiter is not supported
+	 * @throws RuntimeException
+	 *             if the file can not be read
+	 * @see #of(Path)
+	 */
+	public static CsvMother of(Path path, char delimiter) {
+		return new CsvMother(path, delimiter);
+	}
+
+	/**
+	 * Creates a StreamingCsvMother for a comma separated file on the classpath.
+	 * The file is never loaded into memory as a whole; edits are applied while
+	 * the file is streamed to the output.
+	 *
+	 * @param filePath
+	 *            the path to the CSV file in the classpath (e.g.,
+	 *            "data/export.csv")
+	 * @return a new StreamingCsvMother for the specified CSV file
+	 */
+	public static StreamingCsvMother streaming(String filePath) {
+		return streaming(filePath, ',');
+	}
+
+	/**
+	 * Creates a StreamingCsvMother for a CSV file on the classpath.
+	 *
+	 * @param filePath
+	 *            the path to the CSV file in the classpath (e.g.,
+	 *            "data/export.csv")
+	 * @param delimiter
+	 *            delimiter used for the csv format (e.g., comma: ',', semicolon:
+	 *            ';')
+	 * @return a new StreamingCsvMother for the specified CSV file
+	 * @see #streaming(String)
+	 */
+	public static StreamingCsvMother streaming(String filePath, char delimiter) {
+		return StreamingCsvMother.ofResource(CsvMother.class.getClassLoader(), filePath, delimiter);
+	}
+
+	/**
+	 * Creates a StreamingCsvMother for a comma separated file on the file system.
+	 * The file is never loaded into memory as a whole; edits are applied while
+	 * the file is streamed to the output.
+	 *
+	 * @param path
+	 *            the path to the UTF-8 encoded CSV file
+	 * @return a new StreamingCsvMother for the specified CSV file
+	 */
+	public static StreamingCsvMother streaming(Path path) {
+		return streaming(path, ',');
+	}
+
+	/**
+	 * Creates a StreamingCsvMother for a CSV file on the file system.
+	 *
+	 * @param path
+	 *            the path to the UTF-8 encoded CSV file
+	 * @param delimiter
+	 *            delimiter used for the csv format (e.g., comma: ',', semicolon:
+	 *            ';')
+	 * @return a new StreamingCsvMother for the specified CSV file
+	 * @see #streaming(Path)
+	 */
+	public static StreamingCsvMother streaming(Path path, char delimiter) {
+		return StreamingCsvMother.ofPath(path, delimiter);
+	}
+
 	/**
 	 * Adds a new row to the CSV content based on a comma-separated string.
 	 * The values in the string will be split by commas and added as a new row.
@@ -129,7 +269,9 @@ public class CsvMother {
 	 * @return the current CsvMother instance for method chaining
 	 */
 	public CsvMother withRow(String line) {
-		pendingRows.add(split(line));
+		String[] values = split(line);
+		edited("withRow", (Object) values);
+		pendingRows.add(values);
 		return this;
 	}
 
@@ -146,13 +288,49 @@ public class CsvMother {
 	public CsvMother withRow(Consumer<LineBuilder> columnBuilderConsumer) {
 		var lineBuilder = new LineBuilder();
 		columnBuilderConsumer.accept(lineBuilder);
-		pendingRows.add(lineBuilder.build());
+		String[] values = lineBuilder.build();
+		edited("withRow", (Object) values);
+		pendingRows.add(values);
 		// String[] values =
 		// lineBuilder.build().split(Pattern.quote(String.valueOf(delimiter)), -1);
 		// pendingRows.add(values);
 		return this;
 	}
 
+	/**
+	 * Adds the given number of generated rows to the CSV content. Every generated
+	 * row starts out as a copy of one of the rows of the CSV, cycling through
+	 * them, and is then modified by the generator.
+	 * <p>
+	 * The rows are only generated while building, one at a time, and written to
+	 * the output right away: a single reused row is all that is held in memory.
+	 * Combined with {@link #buildTo(Path)}, this allows for creating files with
+	 * millions of rows from a handful of sample rows.
+	 * </p>
+	 *
+	 * <pre>
+	 * CsvMother.of("data/books.csv")
+	 * 		.withGeneratedRows(1_000_000, row -&gt; row.withColumn("title", "Volume " + row.index()))
+	 * 		.buildTo(Path.of("target/books.csv"));
+	 * </pre>
+	 *
+	 * @param count
+	 *            the number of rows to generate
+	 * @param generator
+	 *            the generator filling in the values of each row
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the count is negative
+	 */
+	public CsvMother withGeneratedRows(long count, RowGenerator generator) {
+		if (count < 0) {
+			throw new IllegalArgumentException("The row count must not be negative: " + count);
+		}
+		edited("withGeneratedRows", count, generator);
+		generatedRows.add(new GeneratedRows(pendingRows.size(), count, generator));
+		return this;
+	}
+
 	/**
 	 * Removes the row for the given index from the CSV content.
 	 *
@@ -161,12 +339,9 @@ public class CsvMother {
 	 * @return the current CsvMother instance for method chaining
 	 */
 	public CsvMother withoutRow(int index) {
-		if (index < 0 || index >= rows.size()) {
-			throw new IndexOutOfBoundsException(
-					"Row index " + index + " is out of bounds. Valid range: 0-" + (rows.size() - 1));
-		}
-
-		rows.remove(index);
+		int row = position(index);
+		edited("withoutRow", index);
+		rows.remove(row);
 		return this;
 	}
 
@@ -181,14 +356,9 @@ public class CsvMother {
 	 *             found
 	 */
 	public CsvMother withoutRow(Predicate<Row> predicate) {
-		rows.stream()
-				.filter(predicate)
-				.findFirst()
-				.ifPresentOrElse(
-						rows::remove,
-						() -> {
-							throw new IllegalArgumentException("No row found matching the given predicate");
-						});
+		int matchingRow = firstMatch(predicate);
+		edited("withoutRow", predicate);
+		rows.remove(matchingRow);
 		return this;
 	}
 
@@ -209,12 +379,10 @@ public class CsvMother {
 	 *             if the row index is out of bounds
 	 */
 	public CsvMother withRowColumnValue(Integer rowIndex, String column, Object value) {
-		if (rowIndex < 0 || rowIndex >= rows.size()) {
-			throw new IndexOutOfBoundsException(
-					"Row index " + rowIndex + " is out of bounds. Valid range: 0-" + (rows.size() - 1));
-		}
-		Row row = rows.get(rowIndex);
-		setColumnValue(row, column, value);
+		int row = position(rowIndex);
+		int position = header.require(column);
+		edited("withRowColumnValue", rowIndex, column, String.valueOf(value));
+		rows.set(row, position, String.valueOf(value));
 		return this;
 	}
 
@@ -234,11 +402,179 @@ public class CsvMother {
 	 *             found
 	 */
 	public CsvMother withRowColumnValue(Predicate<Row> predicate, String column, Object value) {
-		Row matchingRow = rows.stream()
-				.filter(predicate)
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException("No row found matching the given predicate"));
-		setColumnValue(matchingRow, column, value);
+		int matchingRow = firstMatch(predicate);
+		int position = header.require(column);
+		edited("withRowColumnValue", predicate, column, String.valueOf(value));
+		rows.set(matchingRow, position, String.valueOf(value));
+		return this;
+	}
+
+	/**
+	 * Sets the value of a column in every existing row to the value computed from
+	 * that row. Rows added with {@code withRow} are not affected.
+	 *
+	 * <pre>
+	 * CsvMother.of("data/books.csv")
+	 * 		.withColumnValue("title", row -&gt; row.column("title").toUpperCase())
+	 * 		.build();
+	 * </pre>
+	 *
+	 * @param column
+	 *            the name of the column to modify
+	 * @param valueFunction
+	 *            computes the new value of the column from the row
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the specified column is not found in the CSV headers
+	 */
+	public CsvMother withColumnValue(String column, Function<Row, @Nullable Object> valueFunction) {
+		int position = header.require(column);
+		// computes all values first, so that a failing function leaves the rows as
+		// they were
+		@Nullable String[] values = new String[rows.size()];
+		var cursor = new RowCursor(header, rows);
+		for (int row = 0; row < rows.size(); row++) {
+			if (!rows.isRemoved(row)) {
+				values[row] = String.valueOf(valueFunction.apply(cursor.at(row)));
+			}
+		}
+		edited("withColumnValue", column, valueFunction);
+		for (int row = 0; row < rows.size(); row++) {
+			if (!rows.isRemoved(row)) {
+				rows.set(row, position, values[row]);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Indexes the rows by the values of the given column, so that
+	 * {@link #withRowWhere(String, Object, String, Object)} and
+	 * {@link #withoutRowWhere(String, Object)} find a row by key without
+	 * scanning all rows.
+	 * <p>
+	 * The hash index is built on the first lookup by key and kept up to date
+	 * when rows are modified or removed. Columns that are looked up by key
+	 * without calling this method are indexed on their first lookup as well.
+	 * </p>
+	 *
+	 * @param column
+	 *            the name of the key column, e.g. "isbn"
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the specified column is not found in the CSV headers
+	 */
+	public CsvMother indexBy(String column) {
+		rows.index(header.require(column));
+		return this;
+	}
+
+	/**
+	 * Modifies the value of a column in the first row whose key column holds the
+	 * given key, looking the row up through a hash index on the key column.
+	 *
+	 * <pre>
+	 * CsvMother.of("data/books.csv")
+	 * 		.withRowWhere("isbn", "978-0140447934", "title", "War and Peace")
+	 * 		.build();
+	 * </pre>
+	 *
+	 * @param keyColumn
+	 *            the name of the key column
+	 * @param key
+	 *            the value of the key column of the row to modify
+	 * @param column
+	 *            the name of the column to modify
+	 * @param value
+	 *            the new value to set for the specified column
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if no row holds the key, or if one of the columns is not found
+	 * @see #indexBy(String)
+	 */
+	public CsvMother withRowWhere(String keyColumn, Object key, String column, @Nullable Object value) {
+		int row = rowWhere(keyColumn, key);
+		int position = header.require(column);
+		edited("withRowWhere", keyColumn, String.valueOf(key), column, String.valueOf(value));
+		rows.set(row, position, String.valueOf(value));
+		return this;
+	}
+
+	/**
+	 * Removes the first row whose key column holds the given key, looking the row
+	 * up through a hash index on the key column.
+	 *
+	 * @param keyColumn
+	 *            the name of the key column
+	 * @param key
+	 *            the value of the key column of the row to remove
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if no row holds the key, or if the key column is not found
+	 * @see #indexBy(String)
+	 */
+	public CsvMother withoutRowWhere(String keyColumn, Object key) {
+		int row = rowWhere(keyColumn, key);
+		edited("withoutRowWhere", keyColumn, String.valueOf(key));
+		rows.remove(row);
+		return this;
+	}
+
+	/**
+	 * Sets the line ending written in between rows, {@code "\n"} by default. Use
+	 * {@code "\r\n"} for output that strictly follows RFC 4180.
+	 *
+	 * @param lineEnding
+	 *            the line ending, e.g. "\r\n"
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the line ending is empty
+	 */
+	public CsvMother withLineEnding(String lineEnding) {
+		if (lineEnding.isEmpty()) {
+			throw new IllegalArgumentException("The line ending must not be empty");
+		}
+		this.lineEnding = lineEnding;
+		if (fingerprint != null) {
+			fingerprint.add("withLineEnding", lineEnding);
+		}
+		return this;
+	}
+
+	/**
+	 * Enables the {@link BuildCache#shared() shared} build cache for this mother.
+	 *
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 * @see #withBuildCache(BuildCache)
+	 */
+	public CsvMother withBuildCache() {
+		return withBuildCache(BuildCache.shared());
+	}
+
+	/**
+	 * Enables the given build cache for this mother.
+	 * <p>
+	 * Every subsequent edit is fingerprinted. Building returns the output stored
+	 * for a mother of the same file with identical edits, if any, without
+	 * writing the rows again. Mothers loaded from a file system path and mothers
+	 * edited through a predicate are built as usual.
+	 * </p>
+	 *
+	 * @param cache
+	 *            the cache to store the built outputs in
+	 * @return the current CsvMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 */
+	public CsvMother withBuildCache(BuildCache cache) {
+		if (editCount > 0) {
+			throw new IllegalStateException("The build cache must be enabled before the first edit");
+		}
+		buildCache = cache;
+		fingerprint = EditFingerprint
+				.of(cacheSource == null ? null : List.of(getClass(), cacheSource, delimiter, lineEnding));
 		return this;
 	}
 
@@ -249,59 +585,215 @@ public class CsvMother {
 	 * @return a string representation of the customized CSV content
 	 */
 	public String build() {
-		var delimiterString = String.valueOf(delimiter);
-		var sb = new StringBuilder();
+		if (buildCache != null && fingerprint != null) {
+			return buildCache.get(fingerprint, "CSV", this::buildString);
+		}
+		return buildString();
+	}
 
-		sb.append(String.join(delimiterString, headers));
+	/**
+	 * Writes the final CSV content to the given writer, including the headers and
+	 * all rows. The writer is flushed but not closed.
+	 *
+	 * @param writer
+	 *            the writer to write to
+	 * @throws RuntimeException
+	 *             if writing fails
+	 */
+	public void buildTo(Writer writer) {
+		var recording = BuildRecording.start();
+		var countingWriter = recording.isEnabled() ? new CountingWriter(writer) : null;
+		try {
+			write(countingWriter != null ? countingWriter : writer);
+			writer.flush();
+		} catch (IOException e) {
+			throw new RuntimeException("Error building CSV", e);
+		}
+		if (countingWriter != null && recording.shouldRecord()) {
+			recording.record(MOTHER, resource, "CSV", editCount, countingWriter.count());
+		}
+	}
+
+	/**
+	 * Writes the final CSV content to the given output stream in the given
+	 * charset. The stream is flushed but not closed.
+	 *
+	 * @param out
+	 *            the output stream to write to
+	 * @param charset
+	 *            the charset to encode the CSV content with
+	 * @throws RuntimeException
+	 *             if writing fails
+	 * @see #buildTo(Writer)
+	 */
+	public void buildTo(OutputStream out, Charset charset) {
+		buildTo(new BufferedWriter(new OutputStreamWriter(out, charset)));
+	}
+
+	/**
+	 * Writes the final CSV content as UTF-8 to the given file, replacing any
+	 * existing content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 * @throws RuntimeException
+	 *             if writing fails
+	 * @see #buildTo(Writer)
+	 */
+	public void buildTo(Path path) {
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			buildTo(writer);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to write CSV to: " + path, e);
+		}
+	}
+
+	private String buildString() {
+		var recording = BuildRecording.start();
+		var writer = new StringWriter();
+		try {
+			write(writer);
+		} catch (IOException e) {
+			throw new RuntimeException("Error building CSV", e);
+		}
+
+		String csv = writer.toString();
+		if (recording.shouldRecord()) {
+			recording.record(MOTHER, resource, "CSV", editCount, MotherBuildEvent.utf8Length(csv));
+		}
+		return csv;
+	}
+
+	private void write(Writer writer) throws IOException {
+		var rowWriter = new RowWriter(writer, delimiter, lineEnding);
+		rowWriter.write(header.names());
+		int[] sampleRows = new int[rows.size()];
+		int sampleCount = 0;
+		for (int row = 0; row < rows.size(); row++) {
+			if (!rows.isRemoved(row)) {
+				rowWriter.write(rows, row);
+				sampleRows[sampleCount++] = row;
+			}
+		}
+		var generatedRow = new GeneratedRow(header, rows, Arrays.copyOf(sampleRows, sampleCount));
+		int generated = 0;
+		for (int pending = 0; pending <= pendingRows.size(); pending++) {
+			// generated rows are written in between the added rows they were added after
+			while (generated < generatedRows.size() && generatedRows.get(generated).position() == pending) {
+				GeneratedRows next = generatedRows.get(generated++);
+				for (long index = 0; index < next.count(); index++) {
+					String[] values = generatedRow.reset(index);
+					next.generator().generate(generatedRow);
+					rowWriter.write(values);
+				}
+			}
+			if (pending < pendingRows.size()) {
+				rowWriter.write(pendingRows.get(pending));
+			}
+		}
+	}
 
-		rows.forEach(r -> sb.append("\n")
-				.append(String.join(delimiterString, r.values())));
+	private void edited(String operation, @Nullable Object... arguments) {
+		editCount++;
+		MotherMetrics.instance().edited(MOTHER, operation);
+		if (fingerprint != null) {
+			fingerprint.add(operation, arguments);
+		}
+	}
 
-		pendingRows.forEach(r -> sb.append("\n")
-				.append(String.join(delimiterString, r)));
+	/**
+	 * @return the position of the row with the given index in the store, which
+	 *         is compacted first to make both equal
+	 */
+	private int position(int index) {
+		rows.compact();
+		if (index < 0 || index >= rows.size()) {
+			throw new IndexOutOfBoundsException(
+					"Row index " + index + " is out of bounds. Valid range: 0-" + (rows.size() - 1));
+		}
+		return index;
+	}
 
-		return sb.toString();
+	private int rowWhere(String keyColumn, Object key) {
+		int row = rows.find(header.require(keyColumn), String.valueOf(key));
+		if (row < 0) {
+			throw new IllegalArgumentException("No row found with " + keyColumn + " '" + key + "'");
+		}
+		return row;
 	}
 
-	private void setColumnValue(Row row, String columnName, Object value) {
-		String[] rowHeaders = row.headers();
-		String[] rowValues = row.values();
-		for (int i = 0; i < rowHeaders.length; i++) {
-			if (rowHeaders[i].equals(columnName)) {
-				rowValues[i] = String.valueOf(value);
-				return;
+	private int firstMatch(Predicate<Row> predicate) {
+		var cursor = new RowCursor(header, rows);
+		for (int row = 0; row < rows.size(); row++) {
+			if (!rows.isRemoved(row) && predicate.test(cursor.at(row))) {
+				return row;
 			}
 		}
-		throw new IllegalArgumentException(
-				"Column '" + columnName + "' not found. Available columns: " + String.join(", ", rowHeaders));
+		throw new IllegalArgumentException("No row found matching the given predicate");
 	}
 
 	private void parseCsv(String filePath) {
+		var recording = LoadRecording.start(MOTHER, filePath);
 		try (InputStream is = this.getClass().getClassLoader().getResourceAsStream(filePath)) {
 			if (is == null) {
 				throw new RuntimeException("Unable to open file " + filePath);
 			}
+			var countingStream = new CountingInputStream(is);
+			long parseStart = System.nanoTime();
 
 			var parser = new CSVParserBuilder().withSeparator(delimiter).build();
 
-			var allLines = new CSVReaderBuilder(
-					new InputStreamReader(is, StandardCharsets.UTF_8))
+			try (var reader = new CSVReaderBuilder(
+					new InputStreamReader(countingStream, StandardCharsets.UTF_8))
 					.withCSVParser(parser)
-					.build()
-					.readAll();
-
-			if (!allLines.isEmpty()) {
-				headers = allLines.get(0);
-				for (int i = 1; i < allLines.size(); i++) {
-					rows.add(new Row(headers, allLines.get(i)));
+					.build()) {
+				String[] headers = reader.readNext();
+				header = new CsvHeader(headers != null ? headers : new String[0]);
+				rows = new ColumnStore(header.size());
+				String[] values;
+				while ((values = reader.readNext()) != null) {
+					rows.add(values);
 				}
 			}
+			recording.parsed(countingStream.count(), System.nanoTime() - parseStart);
+			recording.finish();
 		} catch (IOException | CsvException e) {
 			throw new RuntimeException("Error parsing CSV", e);
 		}
 	}
 
+	private void loadCsv(Path path) {
+		var recording = LoadRecording.start(MOTHER, resource);
+		long parseStart = System.nanoTime();
+		List<String[]> headers = new ArrayList<>(1);
+		try {
+			long size = new ParallelCsvLoader(delimiter).load(path, record -> {
+				if (headers.isEmpty()) {
+					headers.add(record);
+					header = new CsvHeader(record);
+					rows = new ColumnStore(header.size());
+				} else {
+					rows.add(record);
+				}
+			});
+			if (headers.isEmpty()) {
+				header = new CsvHeader(new String[0]);
+				rows = new ColumnStore(0);
+			}
+			recording.parsed(size, System.nanoTime() - parseStart);
+			recording.finish();
+		} catch (IOException e) {
+			throw new RuntimeException("Error loading CSV from: " + path, e);
+		}
+	}
+
 	private String[] split(String line) {
 		return line.split(Pattern.quote(String.valueOf(delimiter)), -1);
 	}
+
+	/**
+	 * Rows to generate, written after the given number of added rows.
+	 */
+	private record GeneratedRows(int position, long count, RowGenerator generator) {
+	}
 }
@@ -0,0 +1,85 @@
+package io.jonasg.mother.csv;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * A row produced by a {@link RowGenerator}, pre-filled with the values of one
+ * of the rows of the {@link CsvMother}, the sample rows. Generated row
+ * {@code n} starts out as a copy of sample row {@code n % sampleRowCount}.
+ * <p>
+ * A single instance is reused for all rows of a
+ * {@link CsvMother#withGeneratedRows(long, RowGenerator)} call, so generating a
+ * row does not allocate anything but its values.
+ * </p>
+ */
+public final class GeneratedRow {
+
+	private final CsvHeader header;
+	private final ColumnStore samples;
+	private final int[] sampleRows;
+	private final String[] values;
+	private long index;
+
+	GeneratedRow(CsvHeader header, ColumnStore samples, int[] sampleRows) {
+		this.header = header;
+		this.samples = samples;
+		this.sampleRows = sampleRows;
+		this.values = new String[header.size()];
+	}
+
+	/**
+	 * @return the 0-based index of the row within the generated rows
+	 */
+	public long index() {
+		return index;
+	}
+
+	/**
+	 * @param headerName
+	 *            the name of the column
+	 * @return the current value of the column, {@code null} if there is no such
+	 *         column
+	 */
+	public @Nullable String column(String headerName) {
+		int column = header.indexOf(headerName);
+		return column == CsvHeader.NOT_FOUND ? null : values[column];
+	}
+
+	/**
+	 * Sets the value of a column.
+	 *
+	 * @param headerName
+	 *            the name of the column
+	 * @param value
+	 *            the value of the column
+	 * @return this row for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the column is not found in the CSV headers
+	 */
+	public GeneratedRow withColumn(String headerName, @Nullable Object value) {
+		values[header.require(headerName)] = String.valueOf(value);
+		return this;
+	}
+
+	/**
+	 * Resets the values to those of the sample row for the generated row with the
+	 * given index.
+	 *
+	 * @return the values, which are written once the generator filled them in
+	 */
+	String[] reset(long index) {
+		this.index = index;
+		if (sampleRows.length == 0) {
+			Arrays.fill(values, "");
+			return values;
+		}
+		int sample = sampleRows[(int) (index % sampleRows.length)];
+		for (int column = 0; column < values.length; column++) {
+			String value = samples.get(sample, column);
+			values[column] = value != null ? value : "";
+		}
+		return values;
+	}
+}
@@ -0,0 +1,202 @@
+package io.jonasg.mother.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Loads a UTF-8 encoded CSV file by memory-mapping it and tokenizing parts of
+ * it in parallel on the common ForkJoin pool.
+ * <p>
+ * Loading happens in two parallel passes over segments of the file. The first
+ * pass counts the double quotes of every segment and notes the first line
+ * break after an even and after an odd number of quotes. As a line break only
+ * ends a record when it is preceded by an even number of quotes in the whole
+ * file, the quote counts of the preceding segments tell which of the two line
+ * breaks is the first record boundary of a segment. The second pass tokenizes
+ * the chunks in between those boundaries, which are handed out in the original
+ * order once all chunks are done.
+ * </p>
+ * <p>
+ * Values are tokenized as described by RFC 4180: values may be enclosed in
+ * double quotes, in which case they can hold the delimiter, line breaks and
+ * doubled double quotes. Records are separated by {@code \n} or {@code \r\n}.
+ * </p>
+ */
+final class ParallelCsvLoader {
+
+	static final int DEFAULT_MINIMUM_SEGMENT_SIZE = 1 << 20;
+
+	private static final int MAXIMUM_SEGMENT_SIZE = Integer.MAX_VALUE - 8;
+
+	private final byte delimiter;
+	private final int minimumSegmentSize;
+
+	ParallelCsvLoader(char delimiter) {
+		this(delimiter, DEFAULT_MINIMUM_SEGMENT_SIZE);
+	}
+
+	ParallelCsvLoader(char delimiter, int minimumSegmentSize) {
+		if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+			throw new IllegalArgumentException("Unsupported delimiter for loading a CSV file from a path: " + delimiter);
+		}
+		this.delimiter = (byte) delimiter;
+		this.minimumSegmentSize = minimumSegmentSize;
+	}
+
+	/**
+	 * Loads the records of the file, the headers included, and passes them to the
+	 * consumer in the order of the file.
+	 *
+	 * @return the size of the file in bytes
+	 */
+	long load(Path path, Consumer<String[]> records) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			int parallelism = Runtime.getRuntime().availableProcessors();
+			long segmentSize = Math.min(MAXIMUM_SEGMENT_SIZE,
+					Math.max(minimumSegmentSize, (size + parallelism * 4L - 1) / (parallelism * 4L)));
+			int segmentCount = (int) Math.max(1, (size + segmentSize - 1) / segmentSize);
+
+			List<Segment> segments = IntStream.range(0, segmentCount)
+					.parallel()
+					.mapToObj(segment -> scan(channel, segment * segmentSize,
+							Math.min(size, (segment + 1) * segmentSize)))
+					.toList();
+			long[] boundaries = boundaries(segments, size);
+
+			List<List<String[]>> chunks = new ArrayList<>(IntStream.range(0, boundaries.length - 1)
+					.parallel()
+					.mapToObj(chunk -> tokenize(channel, boundaries[chunk], boundaries[chunk + 1]))
+					.toList());
+			for (int chunk = 0; chunk < chunks.size(); chunk++) {
+				chunks.get(chunk).forEach(records);
+				// releases the records of the chunk once they are stored
+				chunks.set(chunk, List.of());
+			}
+			return size;
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * @return the start of every chunk followed by the size of the file
+	 */
+	private static long[] boundaries(List<Segment> segments, long size) {
+		long[] boundaries = new long[segments.size() + 2];
+		int count = 1;
+		boolean oddQuotes = false;
+		for (Segment segment : segments) {
+			long lineBreak = oddQuotes
+					? segment.firstLineBreakAfterOddQuotes()
+					: segment.firstLineBreakAfterEvenQuotes();
+			if (lineBreak >= 0 && lineBreak + 1 < size) {
+				boundaries[count++] = lineBreak + 1;
+			}
+			oddQuotes ^= segment.oddQuotes();
+		}
+		boundaries[count++] = size;
+		return Arrays.copyOf(boundaries, count);
+	}
+
+	private Segment scan(FileChannel channel, long start, long end) {
+		MappedByteBuffer buffer = map(channel, start, end);
+		boolean oddQuotes = false;
+		long afterEvenQuotes = -1;
+		long afterOddQuotes = -1;
+		int length = buffer.limit();
+		for (int i = 0; i < length; i++) {
+			byte b = buffer.get(i);
+			if (b == '"') {
+				oddQuotes = !oddQuotes;
+			} else if (b == '\n') {
+				if (oddQuotes && afterOddQuotes < 0) {
+					afterOddQuotes = start + i;
+				} else if (!oddQuotes && afterEvenQuotes < 0) {
+					afterEvenQuotes = start + i;
+				}
+			}
+		}
+		return new Segment(oddQuotes, afterEvenQuotes, afterOddQuotes);
+	}
+
+	private List<String[]> tokenize(FileChannel channel, long start, long end) {
+		if (end - start > MAXIMUM_SEGMENT_SIZE) {
+			throw new IllegalArgumentException("CSV record starting at byte " + start + " is too large to load");
+		}
+		MappedByteBuffer buffer = map(channel, start, end);
+		List<String[]> records = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		byte[] value = new byte[64];
+		int valueLength = 0;
+		boolean quoted = false;
+		boolean inRecord = false;
+		int length = buffer.limit();
+		for (int i = 0; i < length; i++) {
+			byte b = buffer.get(i);
+			inRecord = true;
+			if (quoted) {
+				if (b == '"') {
+					if (i + 1 < length && buffer.get(i + 1) == '"') {
+						// a doubled quote stands for a single one
+						i++;
+					} else {
+						quoted = false;
+						continue;
+					}
+				}
+			} else if (b == '"') {
+				quoted = true;
+				continue;
+			} else if (b == delimiter) {
+				values.add(new String(value, 0, valueLength, StandardCharsets.UTF_8));
+				valueLength = 0;
+				continue;
+			} else if (b == '\n' || (b == '\r' && i + 1 < length && buffer.get(i + 1) == '\n')) {
+				if (b == '\r') {
+					i++;
+				}
+				values.add(new String(value, 0, valueLength, StandardCharsets.UTF_8));
+				valueLength = 0;
+				records.add(values.toArray(new String[0]));
+				values.clear();
+				inRecord = false;
+				continue;
+			}
+			if (valueLength == value.length) {
+				value = Arrays.copyOf(value, value.length * 2);
+			}
+			value[valueLength++] = b;
+		}
+		if (inRecord) {
+			values.add(new String(value, 0, valueLength, StandardCharsets.UTF_8));
+			records.add(values.toArray(new String[0]));
+		}
+		return records;
+	}
+
+	private static MappedByteBuffer map(FileChannel channel, long start, long end) {
+		try {
+			return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * The outcome of scanning a segment of the file, the positions of the line
+	 * breaks are absolute, {@code -1} if there is no such line break.
+	 */
+	private record Segment(boolean oddQuotes, long firstLineBreakAfterEvenQuotes, long firstLineBreakAfterOddQuotes) {
+	}
+}
@@ -2,6 +2,41 @@ package io.jonasg.mother.csv;
 
 import org.jspecify.annotations.Nullable;
 
-public record Row(String[]headers,String[]values){
+/**
+ * A single row of a CSV file, as passed to the predicates and functions of
+ * {@link CsvMother}.
+ * <p>
+ * The rows passed by a mother share its headers array, through which a column
+ * is looked up by name without searching the headers. Their values are a copy
+ * of the stored values, modifying them does not modify the mother. A CsvMother
+ * passes the same row refilled with the values of every next row, so a row is
+ * only valid during the call it is passed to.
+ * </p>
+ *
+ * @param headers
+ *            the names of the columns
+ * @param values
+ *            the values of the row, in the order of the headers
+ */
+public record Row(String[] headers, String[] values) {
 
-public @Nullable String column(String headerName){for(int i=0;i<headers.length;i++){if(headers[i].equals(headerName)){return values[i];}}return null;}}
+	/**
+	 * @param headerName
+	 *            the name of the column
+	 * @return the value of the column, {@code null} if there is no such column or
+	 *         the row has no value for it
+	 */
+	public @Nullable String column(String headerName) {
+		CsvHeader header = CsvHeader.indexed(headers);
+		if (header != null) {
+			int column = header.indexOf(headerName);
+			return column != CsvHeader.NOT_FOUND && column < values.length ? values[column] : null;
+		}
+		for (int i = 0; i < headers.length; i++) {
+			if (headers[i].equals(headerName)) {
+				return i < values.length ? values[i] : null;
+			}
+		}
+		return null;
+	}
+}
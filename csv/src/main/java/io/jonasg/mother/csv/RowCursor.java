@@ -0,0 +1,34 @@
+package io.jonasg.mother.csv;
+
+/**
+ * Passes the rows of a {@link ColumnStore} to predicates and functions as a
+ * single {@link Row} whose values are refilled for every row, so that a loop
+ * over all rows does not allocate per row. Only rows that are not as wide as
+ * the header get a row of their own.
+ */
+final class RowCursor {
+
+	private final CsvHeader header;
+	private final ColumnStore store;
+	private final String[] values;
+	private final Row row;
+
+	RowCursor(CsvHeader header, ColumnStore store) {
+		this.header = header;
+		this.store = store;
+		this.values = new String[header.size()];
+		this.row = new Row(header.names(), values);
+	}
+
+	/**
+	 * @return the row at the given position of the store, valid until the next
+	 *         call
+	 */
+	Row at(int index) {
+		if (store.width(index) != values.length) {
+			return new Row(header.names(), store.values(index));
+		}
+		store.copyValues(index, values);
+		return row;
+	}
+}
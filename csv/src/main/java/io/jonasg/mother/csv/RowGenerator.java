@@ -0,0 +1,18 @@
+package io.jonasg.mother.csv;
+
+/**
+ * Generates the values of the rows added by
+ * {@link CsvMother#withGeneratedRows(long, RowGenerator)}.
+ */
+@FunctionalInterface
+public interface RowGenerator {
+
+	/**
+	 * Fills in the values of a single generated row.
+	 *
+	 * @param row
+	 *            the generated row, pre-filled with the values of a sample row;
+	 *            the instance is reused for the next row and must not be kept
+	 */
+	void generate(GeneratedRow row);
+}
@@ -0,0 +1,113 @@
+package io.jonasg.mother.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writes rows as lines of values separated by the delimiter, the lines
+ * separated by the line ending without a trailing line ending.
+ * <p>
+ * Values are quoted as described by RFC 4180, but only when needed: a value
+ * holding the delimiter, a double quote or a line break is enclosed in double
+ * quotes, and the double quotes it holds are doubled. Each row is assembled in
+ * a char buffer that is reused for all rows and written to the output at once.
+ * </p>
+ */
+final class RowWriter {
+
+	static final String DEFAULT_LINE_ENDING = "\n";
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	private final Writer out;
+	private final char delimiter;
+	private final String lineEnding;
+	private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+	private int length;
+	private boolean firstRow = true;
+
+	RowWriter(Writer out, char delimiter) {
+		this(out, delimiter, DEFAULT_LINE_ENDING);
+	}
+
+	RowWriter(Writer out, char delimiter, String lineEnding) {
+		this.out = out;
+		this.delimiter = delimiter;
+		this.lineEnding = lineEnding;
+	}
+
+	void write(String[] values) throws IOException {
+		startRow();
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				append(delimiter);
+			}
+			appendValue(String.valueOf(values[i]));
+		}
+		out.write(buffer, 0, length);
+	}
+
+	void write(ColumnStore store, int row) throws IOException {
+		startRow();
+		int width = store.width(row);
+		for (int column = 0; column < width; column++) {
+			if (column > 0) {
+				append(delimiter);
+			}
+			appendValue(String.valueOf(store.get(row, column)));
+		}
+		out.write(buffer, 0, length);
+	}
+
+	private void startRow() {
+		length = 0;
+		if (!firstRow) {
+			append(lineEnding);
+		}
+		firstRow = false;
+	}
+
+	private void appendValue(String value) {
+		if (!needsQuotes(value)) {
+			append(value);
+			return;
+		}
+		append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				append('"');
+			}
+			append(c);
+		}
+		append('"');
+	}
+
+	private boolean needsQuotes(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void append(String value) {
+		ensureCapacity(length + value.length());
+		value.getChars(0, value.length(), buffer, length);
+		length += value.length();
+	}
+
+	private void append(char c) {
+		ensureCapacity(length + 1);
+		buffer[length++] = c;
+	}
+
+	private void ensureCapacity(int minimumCapacity) {
+		if (minimumCapacity > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(minimumCapacity, buffer.length * 2));
+		}
+	}
+}
@@ -0,0 +1,367 @@
+package io.jonasg.mother.csv;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import io.jonasg.mother.core.BuildRecording;
+import io.jonasg.mother.core.CountingWriter;
+import io.jonasg.mother.core.MotherMetrics;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CsvMother} variant for very large CSV files that never holds more
+ * than a single row in memory.
+ * <p>
+ * Edits are only recorded. When building, the source is read row by row and
+ * every row is written to the output right after the recorded edits have been
+ * applied to it, followed by the added rows. Memory use therefore only depends
+ * on the number of edits, not on the size of the file.
+ * </p>
+ * <p>
+ * Unlike {@link CsvMother}, row indexes refer to positions in the original
+ * file: removing row {@code 0} does not shift the index of the other rows for
+ * subsequent edits, and edits of a row by index made after its removal are
+ * ignored. Edits on the same row are applied in the order they were made, a
+ * predicate is tested against the row as edited by the preceding edits.
+ * Predicates are only tested against the rows of the file, not against the
+ * added rows. As the file is only read while building, unknown columns, row
+ * indexes beyond the end of the file and predicates that match no row are
+ * reported when building.
+ * </p>
+ *
+ * <pre>
+ * CsvMother.streaming(Path.of("target/export.csv"))
+ * 		.withRowColumnValue(0, "title", "Anna Karenina")
+ * 		.withoutRow(row -&gt; "Nikolai Gogol".equals(row.column("author")))
+ * 		.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+ * 		.buildTo(Path.of("target/export-patched.csv"));
+ * </pre>
+ */
+public final class StreamingCsvMother {
+
+	private static final String MOTHER = "StreamingCsvMother";
+
+	private final String source;
+	private final ReaderOpener opener;
+	private final char delimiter;
+	private final Map<Long, List<RowEdit>> indexEdits = new HashMap<>();
+	private final List<RowEdit> predicateEdits = new ArrayList<>();
+	private final List<String[]> pendingRows = new ArrayList<>();
+	private String lineEnding = RowWriter.DEFAULT_LINE_ENDING;
+	private int editCount;
+
+	private StreamingCsvMother(String source, ReaderOpener opener, char delimiter) {
+		this.source = source;
+		this.opener = opener;
+		this.delimiter = delimiter;
+	}
+
+	static StreamingCsvMother ofResource(ClassLoader classLoader, String filePath, char delimiter) {
+		return new StreamingCsvMother(filePath, () -> {
+			InputStream is = classLoader.getResourceAsStream(filePath);
+			if (is == null) {
+				throw new IllegalArgumentException("Unable to open file " + filePath);
+			}
+			return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+		}, delimiter);
+	}
+
+	static StreamingCsvMother ofPath(Path path, char delimiter) {
+		return new StreamingCsvMother(path.toString(), () -> Files.newBufferedReader(path, StandardCharsets.UTF_8),
+				delimiter);
+	}
+
+	/**
+	 * Appends a new row based on a delimiter separated string after all rows of
+	 * the file.
+	 *
+	 * @param line
+	 *            a delimiter separated string representing the values of the new
+	 *            row (e.g., "value1,value2,value3")
+	 * @return the current StreamingCsvMother instance for method chaining
+	 */
+	public StreamingCsvMother withRow(String line) {
+		edited("withRow");
+		pendingRows.add(line.split(Pattern.quote(String.valueOf(delimiter)), -1));
+		return this;
+	}
+
+	/**
+	 * Appends a new row built by a LineBuilder after all rows of the file.
+	 *
+	 * @param columnBuilderConsumer
+	 *            a Consumer that accepts a LineBuilder to build the values of the
+	 *            new row
+	 * @return the current StreamingCsvMother instance for method chaining
+	 */
+	public StreamingCsvMother withRow(Consumer<LineBuilder> columnBuilderConsumer) {
+		var lineBuilder = new LineBuilder();
+		columnBuilderConsumer.accept(lineBuilder);
+		edited("withRow");
+		pendingRows.add(lineBuilder.build());
+		return this;
+	}
+
+	/**
+	 * Removes the row at the given index of the original file.
+	 *
+	 * @param index
+	 *            the 0-based index of the row in the file, not counting the header
+	 * @return the current StreamingCsvMother instance for method chaining
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is negative
+	 */
+	public StreamingCsvMother withoutRow(long index) {
+		edited("withoutRow");
+		addIndexEdit(index, new RowEdit(null, null));
+		return this;
+	}
+
+	/**
+	 * Removes the first row of the file that matches the given predicate.
+	 *
+	 * @param predicate
+	 *            a Predicate that tests each row to find a match
+	 * @return the current StreamingCsvMother instance for method chaining
+	 */
+	public StreamingCsvMother withoutRow(Predicate<Row> predicate) {
+		edited("withoutRow");
+		predicateEdits.add(new RowEdit(predicate, null));
+		return this;
+	}
+
+	/**
+	 * Modifies the value of a column in the row at the given index of the
+	 * original file.
+	 *
+	 * @param rowIndex
+	 *            the 0-based index of the row in the file, not counting the header
+	 * @param column
+	 *            the name of the column to modify
+	 * @param value
+	 *            the new value to set for the specified column
+	 * @return the current StreamingCsvMother instance for method chaining
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is negative
+	 */
+	public StreamingCsvMother withRowColumnValue(long rowIndex, String column, @Nullable Object value) {
+		edited("withRowColumnValue");
+		addIndexEdit(rowIndex, new RowEdit(null, new ColumnValue(column, String.valueOf(value))));
+		return this;
+	}
+
+	/**
+	 * Modifies the value of a column in the first row of the file that matches
+	 * the given predicate.
+	 *
+	 * @param predicate
+	 *            a Predicate that tests each row to find a match
+	 * @param column
+	 *            the name of the column to modify
+	 * @param value
+	 *            the new value to set for the specified column
+	 * @return the current StreamingCsvMother instance for method chaining
+	 */
+	public StreamingCsvMother withRowColumnValue(Predicate<Row> predicate, String column, @Nullable Object value) {
+		edited("withRowColumnValue");
+		predicateEdits.add(new RowEdit(predicate, new ColumnValue(column, String.valueOf(value))));
+		return this;
+	}
+
+	/**
+	 * Sets the line ending written in between rows, {@code "\n"} by default. Use
+	 * {@code "\r\n"} for output that strictly follows RFC 4180.
+	 *
+	 * @param lineEnding
+	 *            the line ending, e.g. "\r\n"
+	 * @return the current StreamingCsvMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if the line ending is empty
+	 */
+	public StreamingCsvMother withLineEnding(String lineEnding) {
+		if (lineEnding.isEmpty()) {
+			throw new IllegalArgumentException("The line ending must not be empty");
+		}
+		this.lineEnding = lineEnding;
+		return this;
+	}
+
+	/**
+	 * Streams the modified CSV to the given writer. The writer is flushed but not
+	 * closed.
+	 *
+	 * @param writer
+	 *            the writer to write to
+	 * @throws IllegalArgumentException
+	 *             if a column is not found, or if a predicate matches no row
+	 * @throws IndexOutOfBoundsException
+	 *             if a row index is beyond the last row of the file
+	 * @throws RuntimeException
+	 *             if reading or writing fails
+	 */
+	public void buildTo(Writer writer) {
+		var recording = BuildRecording.start();
+		var countingWriter = recording.isEnabled() ? new CountingWriter(writer) : null;
+		Writer target = countingWriter != null ? countingWriter : writer;
+		long rowCount = 0;
+		try (Reader reader = opener.open(); CSVReader csvReader = csvReader(reader)) {
+			String[] headers = csvReader.readNext();
+			if (headers == null) {
+				throw new IllegalArgumentException("No CSV content in: " + source);
+			}
+			var header = new CsvHeader(headers);
+			var rowWriter = new RowWriter(target, delimiter, lineEnding);
+			rowWriter.write(headers);
+			var activeEdits = new ArrayList<>(predicateEdits);
+			String[] values;
+			while ((values = csvReader.readNext()) != null) {
+				values = applyEdits(header, values, indexEdits.get(rowCount), activeEdits);
+				if (values != null) {
+					rowWriter.write(values);
+				}
+				rowCount++;
+			}
+			for (String[] pendingRow : pendingRows) {
+				rowWriter.write(pendingRow);
+			}
+			target.flush();
+			if (!activeEdits.isEmpty()) {
+				throw new IllegalArgumentException("No row found matching the given predicate");
+			}
+		} catch (IOException | CsvValidationException e) {
+			throw new RuntimeException("Failed to stream CSV from: " + source, e);
+		}
+		long lastIndex = rowCount - 1;
+		indexEdits.keySet().stream()
+				.filter(index -> index > lastIndex)
+				.findFirst()
+				.ifPresent(index -> {
+					throw new IndexOutOfBoundsException(
+							"Row index " + index + " is out of bounds. Valid range: 0-" + lastIndex);
+				});
+		if (countingWriter != null && recording.shouldRecord()) {
+			recording.record(MOTHER, source, "CSV", editCount, countingWriter.count());
+		}
+	}
+
+	/**
+	 * Streams the modified CSV as UTF-8 to the given file, replacing any existing
+	 * content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 * @throws RuntimeException
+	 *             if reading or writing fails
+	 * @see #buildTo(Writer)
+	 */
+	public void buildTo(Path path) {
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			buildTo(writer);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to write CSV to: " + path, e);
+		}
+	}
+
+	/**
+	 * Applies the edits of a single row in the order they were made. Predicates
+	 * are tested against the values of the row as edited by the preceding edits,
+	 * the edits following a removal are skipped.
+	 *
+	 * @return the edited values, {@code null} if the row is removed
+	 */
+	private String @Nullable [] applyEdits(CsvHeader header, String[] values, @Nullable List<RowEdit> byIndex,
+			List<RowEdit> activeEdits) {
+		if (byIndex == null && activeEdits.isEmpty()) {
+			return values;
+		}
+		List<RowEdit> indexed = byIndex != null ? byIndex : List.of();
+		String[] edited = values;
+		int nextIndexed = 0;
+		int nextActive = 0;
+		while (nextIndexed < indexed.size() || nextActive < activeEdits.size()) {
+			RowEdit edit;
+			if (nextActive == activeEdits.size() || (nextIndexed < indexed.size()
+					&& indexed.get(nextIndexed).sequence < activeEdits.get(nextActive).sequence)) {
+				edit = indexed.get(nextIndexed++);
+			} else {
+				edit = activeEdits.get(nextActive);
+				// a copy, so that the predicate can not modify the written values
+				if (!edit.predicate.test(new Row(header.names(), edited.clone()))) {
+					nextActive++;
+					continue;
+				}
+				// a predicate only applies to the first matching row
+				activeEdits.remove(nextActive);
+			}
+			if (edit.columnValue == null) {
+				return null;
+			}
+			int column = header.require(edit.columnValue.column);
+			if (column >= edited.length) {
+				edited = Arrays.copyOf(edited, header.size());
+				Arrays.fill(edited, values.length, edited.length, "");
+			}
+			edited[column] = edit.columnValue.value;
+		}
+		return edited;
+	}
+
+	private void addIndexEdit(long index, RowEdit edit) {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("Row index " + index + " is out of bounds");
+		}
+		indexEdits.computeIfAbsent(index, i -> new ArrayList<>(1)).add(edit);
+	}
+
+	private void edited(String operation) {
+		editCount++;
+		MotherMetrics.instance().edited(MOTHER, operation);
+	}
+
+	private CSVReader csvReader(Reader reader) {
+		return new CSVReaderBuilder(reader)
+				.withCSVParser(new CSVParserBuilder().withSeparator(delimiter).build())
+				.build();
+	}
+
+	private record ColumnValue(String column, String value) {
+	}
+
+	/**
+	 * An edit of a single row, a removal if it has no column value.
+	 */
+	private final class RowEdit {
+		private final int sequence = editCount;
+		private final @Nullable Predicate<Row> predicate;
+		private final @Nullable ColumnValue columnValue;
+
+		private RowEdit(@Nullable Predicate<Row> predicate, @Nullable ColumnValue columnValue) {
+			this.predicate = predicate;
+			this.columnValue = columnValue;
+		}
+	}
+
+	@FunctionalInterface
+	private interface ReaderOpener {
+		Reader open() throws IOException;
+	}
+}
@@ -1,7 +1,20 @@
 package io.jonasg.mother.csv;
 
+import io.jonasg.mother.core.BuildCache;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -209,6 +222,31 @@ class AbstractCsvObjectMotherBuilderTest {
 					.hasMessageContaining("No row found matching the given predicate");
 		}
 
+		@Test
+		void failedEditsAreNotRecorded() {
+			// given
+			var cache = BuildCache.of(8);
+			var libraryBuilder = CsvMother.of("mother-data/books.csv").withBuildCache(cache);
+			assertThatThrownBy(() -> libraryBuilder
+					.withoutRow(r -> "NonExistent".equals(r.column("author"))))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> libraryBuilder
+					.withColumnValue("title", r -> {
+						throw new IllegalStateException("failed");
+					}))
+					.isInstanceOf(IllegalStateException.class);
+			String first = libraryBuilder.build();
+
+			// when
+			String second = CsvMother.of("mother-data/books.csv")
+					.withBuildCache(cache)
+					.build();
+
+			// then
+			assertThat(second).isSameAs(first);
+			assertThat(cache.hitCount()).isEqualTo(1);
+		}
+
 		@Test
 		void loadFromClassRelativePath() {
 			// given
@@ -259,6 +297,277 @@ class AbstractCsvObjectMotherBuilderTest {
 					.hasMessageContaining(
 							"When Loading file relative to class, the file name must not contain path separators:");
 		}
+
+		@Test
+		void emitsFlightRecorderEventsForLoadAndBuild(@TempDir Path tempDir) throws IOException {
+			// given
+			Path dump = tempDir.resolve("recording.jfr");
+			String actual;
+			try (var recording = new Recording()) {
+				recording.enable("io.jonasg.mother.Load").withThreshold(Duration.ZERO);
+				recording.enable("io.jonasg.mother.Build").withThreshold(Duration.ZERO);
+				recording.start();
+
+				// when
+				actual = CsvMother.of("mother-data/books.csv")
+						.withRowColumnValue(0, "title", "Anna Karenina")
+						.withoutRow(1)
+						.build();
+
+				recording.stop();
+				recording.dump(dump);
+			}
+
+			// then
+			List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("io.jonasg.mother.Load");
+				assertThat(event.getString("mother")).isEqualTo("CsvMother");
+				assertThat(event.getString("resource")).isEqualTo("mother-data/books.csv");
+				assertThat(event.getLong("size")).isPositive();
+			});
+			assertThat(events).anySatisfy(event -> {
+				assertThat(event.getEventType().getName()).isEqualTo("io.jonasg.mother.Build");
+				assertThat(event.getInt("edits")).isEqualTo(2);
+				assertThat(event.getLong("size")).isEqualTo(actual.getBytes(StandardCharsets.UTF_8).length);
+			});
+		}
+
+		@Test
+		void withColumnValueComputedForEveryRow() {
+			// given
+			var libraryBuilder = CsvMother.of("mother-data/books.csv");
+
+			// when
+			String actual = libraryBuilder
+					.withRowColumnValue(0, "genre", "Epic")
+					.withColumnValue("genre", row -> row.column("author").split(" ")[1] + ": " + row.column("genre"))
+					.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+					.build();
+
+			// then
+			assertThat(actual).isEqualTo("""
+					author,title,genre
+					Leo Tolstoy,War and Peace,Tolstoy: Epic
+					Fyodor Dostoevsky,Crime and Punishment,Dostoevsky: Psychological Novel
+					Alexander Pushkin,Eugene Onegin,Pushkin: Novel in Verse
+					Nikolai Gogol,Dead Souls,Gogol: Satirical Novel
+					Ivan Turgenev,Fathers and Sons,Philosophical Novel""");
+			assertThatThrownBy(() -> libraryBuilder.withColumnValue("publisher", row -> "Penguin"))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("Column 'publisher' not found. Available columns: author, title, genre");
+		}
+
+		@Test
+		void rowsPassedToPredicatesHoldACopyOfTheValues() {
+			// given
+			var libraryBuilder = CsvMother.of("mother-data/books.csv");
+
+			// when
+			String actual = libraryBuilder
+					.withRowColumnValue(row -> {
+						boolean matches = "Leo Tolstoy".equals(row.column("author"));
+						row.values()[0] = "Changed";
+						return matches;
+					}, "genre", "Epic")
+					.build();
+
+			// then
+			assertThat(new Row(new String[] { "author" }, new String[] { "Leo Tolstoy" }))
+					.isInstanceOf(Record.class);
+			assertThat(actual).isEqualTo("""
+					author,title,genre
+					Leo Tolstoy,War and Peace,Epic
+					Fyodor Dostoevsky,Crime and Punishment,Psychological Novel
+					Alexander Pushkin,Eugene Onegin,Novel in Verse
+					Nikolai Gogol,Dead Souls,Satirical Novel""");
+		}
+
+		@Test
+		void rowsLookUpColumnsOfTheirOwnMother(@TempDir Path tempDir) throws IOException {
+			// given
+			Path file = Files.writeString(tempDir.resolve("authors.csv"), """
+					title,author
+					War and Peace,Leo Tolstoy
+					Dead Souls""");
+			var books = CsvMother.of("mother-data/books.csv");
+			var authors = CsvMother.of(file);
+
+			// when
+			books.withColumnValue("genre", row -> row.column("title"));
+			authors.withColumnValue("title", row -> row.column("author"));
+			books.withRowColumnValue(row -> "Dead Souls".equals(row.column("genre")), "title", "The Nose");
+
+			// then
+			assertThat(books.build()).endsWith("Nikolai Gogol,The Nose,Dead Souls");
+			assertThat(authors.build()).isEqualTo("""
+					title,author
+					Leo Tolstoy,Leo Tolstoy
+					null""");
+			assertThat(new Row(new String[] { "title", "author" }, new String[] { "Dead Souls" }).column("author"))
+					.isNull();
+		}
+
+		@Test
+		void withRowLookedUpByKey() {
+			// given
+			var libraryBuilder = CsvMother.of("mother-data/books.csv")
+					.indexBy("title");
+
+			// when
+			String actual = libraryBuilder
+					.withRowWhere("title", "War and Peace", "genre", "Epic")
+					.withoutRowWhere("author", "Fyodor Dostoevsky")
+					.withRowWhere("title", "Dead Souls", "title", "The Overcoat")
+					.withRowWhere("title", "The Overcoat", "genre", "Short Story")
+					.withoutRow(0)
+					.withRowWhere("title", "Eugene Onegin", "genre", "Poem")
+					.build();
+
+			// then
+			assertThat(actual).isEqualTo("""
+					author,title,genre
+					Alexander Pushkin,Eugene Onegin,Poem
+					Nikolai Gogol,The Overcoat,Short Story""");
+			assertThatThrownBy(() -> libraryBuilder.withoutRowWhere("title", "Dead Souls"))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("No row found with title 'Dead Souls'");
+			assertThatThrownBy(() -> libraryBuilder.indexBy("isbn"))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("Column 'isbn' not found. Available columns: author, title, genre");
+		}
+
+		@Test
+		void withGeneratedRowsBasedOnSampleRows(@TempDir Path tempDir) throws IOException {
+			// given
+			var libraryBuilder = CsvMother.of("mother-data/books.csv")
+					.withoutRow(3)
+					.withoutRow(2)
+					.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+					.withGeneratedRows(3, row -> row.withColumn("title", row.column("title") + " " + row.index()))
+					.withRow("Anton Chekhov,The Seagull,Drama")
+					.withGeneratedRows(1, row -> row.withColumn("genre", "Epic"));
+			Path file = tempDir.resolve("books.csv");
+
+			// when
+			libraryBuilder.buildTo(file);
+
+			// then
+			assertThat(Files.readString(file)).isEqualTo(libraryBuilder.build()).isEqualTo("""
+					author,title,genre
+					Leo Tolstoy,War and Peace,Historical Novel
+					Fyodor Dostoevsky,Crime and Punishment,Psychological Novel
+					Ivan Turgenev,Fathers and Sons,Philosophical Novel
+					Leo Tolstoy,War and Peace 0,Historical Novel
+					Fyodor Dostoevsky,Crime and Punishment 1,Psychological Novel
+					Leo Tolstoy,War and Peace 2,Historical Novel
+					Anton Chekhov,The Seagull,Drama
+					Leo Tolstoy,War and Peace,Epic""");
+			assertThatThrownBy(() -> libraryBuilder.withGeneratedRows(-1, row -> row.withColumn("genre", "Epic")))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("The row count must not be negative: -1");
+		}
+
+		@Test
+		void buildToOutputStreamQuotesValuesWhereNeeded() {
+			// given
+			var out = new ByteArrayOutputStream();
+
+			// when
+			CsvMother.of("mother-data/books.csv")
+					.withoutRow(3)
+					.withoutRow(2)
+					.withoutRow(1)
+					.withRowColumnValue(0, "title", "War, and \"Peace\"")
+					.withRowColumnValue(0, "genre", "Historical\nNovel")
+					.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+					.withLineEnding("\r\n")
+					.buildTo(out, StandardCharsets.ISO_8859_1);
+
+			// then
+			assertThat(out.toString(StandardCharsets.ISO_8859_1)).isEqualTo("author,title,genre\r\n"
+					+ "Leo Tolstoy,\"War, and \"\"Peace\"\"\",\"Historical\nNovel\"\r\n"
+					+ "Ivan Turgenev,Fathers and Sons,Philosophical Novel");
+		}
+
+		@Test
+		void loadFromFileSystemPath(@TempDir Path tempDir) throws IOException {
+			// given
+			Path file = Files.writeString(tempDir.resolve("books.csv"), CsvMother.of("mother-data/books.csv")
+					.withRowColumnValue(0, "title", "War,\nand Peace")
+					.build());
+
+			// when
+			String actual = CsvMother.of(file)
+					.withRowWhere("author", "Nikolai Gogol", "genre", "Satire")
+					.build();
+
+			// then
+			assertThat(actual).isEqualTo("""
+					author,title,genre
+					Leo Tolstoy,"War,
+					and Peace",Historical Novel
+					Fyodor Dostoevsky,Crime and Punishment,Psychological Novel
+					Alexander Pushkin,Eugene Onegin,Novel in Verse
+					Nikolai Gogol,Dead Souls,Satire""");
+		}
+
+		@Test
+		void buildCacheDoesNotCacheMothersLoadedFromFileSystemPath(@TempDir Path tempDir) throws IOException {
+			// given
+			var cache = BuildCache.of(8);
+			Path file = Files.writeString(tempDir.resolve("books.csv"), """
+					author,title
+					Leo Tolstoy,War and Peace""");
+			String first = CsvMother.of(file).withBuildCache(cache).build();
+
+			// when
+			Files.writeString(file, """
+					author,title
+					Nikolai Gogol,Dead Souls""");
+			String second = CsvMother.of(file).withBuildCache(cache).build();
+
+			// then
+			assertThat(first).contains("Leo Tolstoy");
+			assertThat(second).contains("Nikolai Gogol");
+			assertThat(cache.hitCount()).isZero();
+			assertThat(cache.size()).isZero();
+		}
+
+		@Test
+		void buildCacheReturnsOutputOfIdenticalMother() {
+			// given
+			var cache = BuildCache.of(8);
+			String first = CsvMother.of("mother-data/books.csv")
+					.withBuildCache(cache)
+					.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+					.build();
+
+			// when
+			String second = CsvMother.of("mother-data/books.csv")
+					.withBuildCache(cache)
+					.withRow(line -> line.withColumn("Ivan Turgenev")
+							.withColumn("Fathers and Sons")
+							.withColumn("Philosophical Novel"))
+					.build();
+			String other = CsvMother.of("mother-data/books.csv")
+					.withBuildCache(cache)
+					.withRowColumnValue(0, "title", "Anna Karenina")
+					.build();
+			String uncacheable = CsvMother.of("mother-data/books.csv")
+					.withBuildCache(cache)
+					.withoutRow(row -> row.column("author").equals("Leo Tolstoy"))
+					.build();
+
+			// then
+			assertThat(second).isSameAs(first);
+			assertThat(other).contains("Anna Karenina");
+			assertThat(uncacheable).doesNotContain("Leo Tolstoy");
+			assertThat(cache.hitCount()).isEqualTo(1);
+			assertThat(cache.missCount()).isEqualTo(2);
+			assertThatThrownBy(() -> CsvMother.of("mother-data/books.csv").withoutRow(0).withBuildCache())
+					.isInstanceOf(IllegalStateException.class);
+		}
 	}
 
 	@Nested
@@ -0,0 +1,71 @@
+package io.jonasg.mother.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelCsvLoaderTest {
+
+	@Test
+	void loadsRecordsSpanningSegmentsInOrder(@TempDir Path tempDir) throws IOException {
+		// given
+		Path file = Files.writeString(tempDir.resolve("books.csv"), """
+				author;title;notes
+				Leo Tolstoy;War and Peace;"a ""long""
+				read; in four volumes"
+				Fyodor Dostoevsky;Преступление и наказание;\r
+				"Alexander
+				Pushkin";Eugene Onegin;"
+				"
+
+				Nikolai Gogol;Dead Souls;last""");
+		var records = new ArrayList<String[]>();
+
+		// when
+		for (int segmentSize : List.of(1, 3, 7, 1 << 20)) {
+			records.clear();
+			long size = new ParallelCsvLoader(';', segmentSize).load(file, records::add);
+
+			// then
+			assertThat(size).isEqualTo(Files.size(file));
+			assertThat(records).containsExactly(
+					new String[] { "author", "title", "notes" },
+					new String[] { "Leo Tolstoy", "War and Peace", "a \"long\"\nread; in four volumes" },
+					new String[] { "Fyodor Dostoevsky", "Преступление и наказание", "" },
+					new String[] { "Alexander\nPushkin", "Eugene Onegin", "\n" },
+					new String[] { "" },
+					new String[] { "Nikolai Gogol", "Dead Souls", "last" });
+		}
+	}
+
+	@Test
+	void loadsEmptyFile(@TempDir Path tempDir) throws IOException {
+		// given
+		Path file = Files.writeString(tempDir.resolve("empty.csv"), "");
+		var records = new ArrayList<String[]>();
+
+		// when
+		long size = new ParallelCsvLoader(',').load(file, records::add);
+
+		// then
+		assertThat(size).isZero();
+		assertThat(records).isEmpty();
+	}
+
+	@Test
+	void rejectsDelimitersThatCanNotBeTokenizedAsBytes() {
+		assertThatThrownBy(() -> new ParallelCsvLoader('"'))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Unsupported delimiter for loading a CSV file from a path: \"");
+		assertThatThrownBy(() -> new ParallelCsvLoader('§'))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
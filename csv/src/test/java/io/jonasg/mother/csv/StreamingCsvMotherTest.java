@@ -0,0 +1,157 @@
+package io.jonasg.mother.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingCsvMotherTest {
+
+	@Test
+	void streamWithoutModificationMatchesBuild() {
+		// given
+		var writer = new StringWriter();
+
+		// when
+		CsvMother.streaming("mother-data/books.csv").buildTo(writer);
+
+		// then
+		assertThat(writer.toString()).isEqualTo(CsvMother.of("mother-data/books.csv").build());
+	}
+
+	@Test
+	void appliesEditsByOriginalIndexAndPredicateWhileStreaming() {
+		// given
+		var writer = new StringWriter();
+
+		// when
+		CsvMother.streaming("mother-data/books.csv")
+				.withoutRow(0)
+				.withRowColumnValue(1, "title", "The Idiot")
+				.withRowColumnValue(row -> "Nikolai Gogol".equals(row.column("author")), "genre", "Satire")
+				.withoutRow(row -> row.column("author").startsWith("Alexander"))
+				.withRow("Ivan Turgenev,Fathers and Sons,Philosophical Novel")
+				.withRow(line -> line.withColumn("Anton Chekhov").withColumn("The Seagull").withColumn("Play"))
+				.buildTo(writer);
+
+		// then
+		assertThat(writer.toString()).isEqualTo("""
+				author,title,genre
+				Fyodor Dostoevsky,The Idiot,Psychological Novel
+				Nikolai Gogol,Dead Souls,Satire
+				Ivan Turgenev,Fathers and Sons,Philosophical Novel
+				Anton Chekhov,The Seagull,Play""");
+	}
+
+	@Test
+	void testsPredicatesAgainstPrecedingEditsLikeCsvMother() {
+		// given
+		var writer = new StringWriter();
+
+		// when
+		CsvMother.streaming("mother-data/books.csv")
+				.withRowColumnValue(0, "author", "X")
+				.withoutRow(row -> "X".equals(row.column("author")))
+				.withRowColumnValue(row -> "Nikolai Gogol".equals(row.column("author")), "author", "Y")
+				.withRowColumnValue(row -> "Y".equals(row.column("author")), "genre", "Satire")
+				.buildTo(writer);
+
+		// then
+		assertThat(writer.toString()).isEqualTo(CsvMother.of("mother-data/books.csv")
+				.withRowColumnValue(0, "author", "X")
+				.withoutRow(row -> "X".equals(row.column("author")))
+				.withRowColumnValue(row -> "Nikolai Gogol".equals(row.column("author")), "author", "Y")
+				.withRowColumnValue(row -> "Y".equals(row.column("author")), "genre", "Satire")
+				.build());
+	}
+
+	@Test
+	void rowsPassedToPredicatesHoldACopyOfTheValues() {
+		// given
+		var writer = new StringWriter();
+
+		// when
+		CsvMother.streaming("mother-data/books.csv")
+				.withRowColumnValue(row -> {
+					boolean matches = "Leo Tolstoy".equals(row.column("author"));
+					row.values()[0] = "Changed";
+					return matches;
+				}, "genre", "Epic")
+				.buildTo(writer);
+
+		// then
+		assertThat(writer.toString()).isEqualTo("""
+				author,title,genre
+				Leo Tolstoy,War and Peace,Epic
+				Fyodor Dostoevsky,Crime and Punishment,Psychological Novel
+				Alexander Pushkin,Eugene Onegin,Novel in Verse
+				Nikolai Gogol,Dead Souls,Satirical Novel""");
+	}
+
+	@Test
+	void streamSemicolonSeparatedFileToPath(@TempDir Path tempDir) throws IOException {
+		// given
+		Path source = Files.writeString(tempDir.resolve("books.csv"), """
+				author;title
+				Leo Tolstoy;War and Peace
+				Nikolai Gogol;Dead Souls
+				""");
+		Path target = tempDir.resolve("patched.csv");
+
+		// when
+		CsvMother.streaming(source, ';')
+				.withRowColumnValue(1, "title", "The Overcoat")
+				.buildTo(target);
+
+		// then
+		assertThat(Files.readString(target)).isEqualTo("""
+				author;title
+				Leo Tolstoy;War and Peace
+				Nikolai Gogol;The Overcoat""");
+	}
+
+	@Test
+	void quotesValuesAndUsesConfiguredLineEnding(@TempDir Path tempDir) throws IOException {
+		// given
+		Path source = Files.writeString(tempDir.resolve("books.csv"), """
+				author,title
+				Leo Tolstoy,"War, and Peace"
+				""");
+		var writer = new StringWriter();
+
+		// when
+		CsvMother.streaming(source)
+				.withLineEnding("\r\n")
+				.withRow(line -> line.withColumn("Nikolai Gogol").withColumn("\"Dead\" Souls"))
+				.buildTo(writer);
+
+		// then
+		assertThat(writer.toString()).isEqualTo(
+				"author,title\r\nLeo Tolstoy,\"War, and Peace\"\r\nNikolai Gogol,\"\"\"Dead\"\" Souls\"");
+	}
+
+	@Test
+	void reportsEditsThatCanNotBeAppliedWhenBuilding() {
+		assertThatThrownBy(() -> CsvMother.streaming("mother-data/books.csv")
+				.withRowColumnValue(0, "publisher", "Penguin")
+				.buildTo(new StringWriter()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Column 'publisher' not found");
+		assertThatThrownBy(() -> CsvMother.streaming("mother-data/books.csv")
+				.withoutRow(4)
+				.buildTo(new StringWriter()))
+				.isInstanceOf(IndexOutOfBoundsException.class)
+				.hasMessage("Row index 4 is out of bounds. Valid range: 0-3");
+		assertThatThrownBy(() -> CsvMother.streaming("mother-data/books.csv")
+				.withoutRow(row -> false)
+				.buildTo(new StringWriter()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("No row found matching the given predicate");
+	}
+}
@@ -0,0 +1,64 @@
+package io.jonasg.mother.json;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * The binary JSON-family formats a {@link JsonMother} can be written in.
+ * <p>
+ * The formats are backed by the optional Jackson dataformat modules, add
+ * {@code tools.jackson.dataformat:jackson-dataformat-smile} or
+ * {@code tools.jackson.dataformat:jackson-dataformat-cbor} to use them.
+ * </p>
+ */
+public enum BinaryFormat {
+
+	/**
+	 * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>,
+	 * requires {@code jackson-dataformat-smile}.
+	 */
+	SMILE("jackson-dataformat-smile") {
+		@Override
+		ObjectMapper createMapper() {
+			return Smile.mapper();
+		}
+	},
+
+	/**
+	 * <a href="https://www.rfc-editor.org/rfc/rfc8949">CBOR</a>, requires
+	 * {@code jackson-dataformat-cbor}.
+	 */
+	CBOR("jackson-dataformat-cbor") {
+		@Override
+		ObjectMapper createMapper() {
+			return Cbor.mapper();
+		}
+	};
+
+	private final String artifactId;
+
+	BinaryFormat(String artifactId) {
+		this.artifactId = artifactId;
+	}
+
+	abstract ObjectMapper createMapper();
+
+	String artifactId() {
+		return artifactId;
+	}
+
+	// the mappers are created in separate classes so the optional modules are only
+	// loaded when the format is used
+	private static final class Smile {
+		static ObjectMapper mapper() {
+			return new SmileMapper();
+		}
+	}
+
+	private static final class Cbor {
+		static ObjectMapper mapper() {
+			return new CBORMapper();
+		}
+	}
+}
@@ -0,0 +1,236 @@
+package io.jonasg.mother.json;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.io.JsonStringEncoder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable, pre-serialized JSON document with a fixed set of slots whose
+ * values are supplied on every render.
+ * <p>
+ * The static parts of the document are serialized once into compact UTF-8
+ * byte segments. Rendering only encodes the supplied values and writes them
+ * between the segments, no JSON tree is created. This makes a template the
+ * cheapest way to produce large amounts of documents that differ in a few leaf
+ * values. Instances are thread-safe.
+ * </p>
+ *
+ * <pre>
+ * CompiledJsonTemplate template = JsonMother.of("data/book.json")
+ * 		.compile("/id", "/title");
+ *
+ * byte[] json = template.render(42, "The Old Man and the Sea");
+ * </pre>
+ *
+ * @see JsonMother#compile(String...)
+ */
+public final class CompiledJsonTemplate {
+
+	private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+	private final List<PointerPath> paths;
+	private final byte[][] segments;
+	private final int[] slotOrder;
+	private final int staticLength;
+	private final ObjectMapper objectMapper;
+	/**
+	 * Whether strings, integers and booleans are encoded without the
+	 * ObjectMapper, only done for the mapper of the default factory as any other
+	 * mapper may have its own serializers for them.
+	 */
+	private final boolean encodesDirectly;
+
+	private CompiledJsonTemplate(List<PointerPath> paths, byte[][] segments, int[] slotOrder,
+			ObjectMapper objectMapper) {
+		this.paths = paths;
+		this.segments = segments;
+		this.slotOrder = slotOrder;
+		this.staticLength = Arrays.stream(segments).mapToInt(segment -> segment.length).sum();
+		this.objectMapper = objectMapper;
+		this.encodesDirectly = objectMapper == JsonMotherFactory.defaultFactory().objectMapper();
+	}
+
+	/**
+	 * Compiles the given mother by putting a unique placeholder at every pointer,
+	 * serializing the result and splitting it at the placeholders.
+	 */
+	static CompiledJsonTemplate compile(JsonMother mother, List<PointerPath> paths, ObjectMapper objectMapper) {
+		String prefix = "$$slot-" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + "-";
+		for (int i = 0; i < paths.size(); i++) {
+			PointerPath path = paths.get(i);
+			if (path.isRoot() || path.hasWildcard()) {
+				throw new IllegalArgumentException("Only pointers to a single property can be compiled: " + path);
+			}
+			mother.withProperty(path, prefix + i + "$$");
+		}
+		byte[] json = mother.buildBytes(JsonLayout.COMPACT);
+
+		int[] positions = new int[paths.size()];
+		int[] lengths = new int[paths.size()];
+		for (int i = 0; i < paths.size(); i++) {
+			byte[] placeholder = ("\"" + prefix + i + "$$\"").getBytes(StandardCharsets.US_ASCII);
+			int position = indexOf(json, placeholder, 0);
+			if (position < 0) {
+				// a later pointer replaced an ancestor of this one
+				throw new IllegalArgumentException("Pointer is overwritten by another pointer: " + paths.get(i));
+			}
+			positions[i] = position;
+			lengths[i] = placeholder.length;
+		}
+
+		Integer[] order = new Integer[paths.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(positions[a], positions[b]));
+
+		byte[][] segments = new byte[paths.size() + 1][];
+		int[] slotOrder = new int[paths.size()];
+		int start = 0;
+		for (int i = 0; i < order.length; i++) {
+			int slot = order[i];
+			segments[i] = Arrays.copyOfRange(json, start, positions[slot]);
+			slotOrder[i] = slot;
+			start = positions[slot] + lengths[slot];
+		}
+		segments[order.length] = Arrays.copyOfRange(json, start, json.length);
+		return new CompiledJsonTemplate(List.copyOf(paths), segments, slotOrder, objectMapper);
+	}
+
+	/**
+	 * @return the pointers of the slots, in the order their values are passed to
+	 *         {@link #render(Object...)}
+	 */
+	public List<PointerPath> paths() {
+		return paths;
+	}
+
+	/**
+	 * Renders the template with the given slot values.
+	 *
+	 * @param values
+	 *            one value per compiled pointer, in the order the pointers were
+	 *            passed to {@link JsonMother#compile(String...)}; converted by the
+	 *            ObjectMapper of the mother, except that strings, integers, booleans
+	 *            and {@code null} are encoded directly for mothers of the default
+	 *            factory
+	 * @return the compact JSON document as UTF-8 bytes
+	 * @throws IllegalArgumentException
+	 *             if the number of values does not match the number of slots
+	 */
+	public byte[] render(@Nullable Object... values) {
+		byte[][] encoded = encode(values);
+		int length = staticLength;
+		for (byte[] value : encoded) {
+			length += value.length;
+		}
+		var out = new ByteArrayOutputStream(length);
+		write(out, encoded);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Renders the template with the given slot values to the given stream. The
+	 * stream is neither flushed nor closed.
+	 *
+	 * @param out
+	 *            the stream to write the compact UTF-8 encoded JSON to
+	 * @param values
+	 *            one value per compiled pointer, see {@link #render(Object...)}
+	 * @throws IllegalArgumentException
+	 *             if the number of values does not match the number of slots
+	 * @throws RuntimeException
+	 *             if writing to the stream fails
+	 */
+	public void renderTo(OutputStream out, @Nullable Object... values) {
+		byte[][] encoded = encode(values);
+		try {
+			out.write(segments[0]);
+			for (int i = 0; i < slotOrder.length; i++) {
+				out.write(encoded[slotOrder[i]]);
+				out.write(segments[i + 1]);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to write JSON", e);
+		}
+	}
+
+	/**
+	 * Renders the template with the given slot values as a string.
+	 *
+	 * @param values
+	 *            one value per compiled pointer, see {@link #render(Object...)}
+	 * @return the compact JSON document
+	 */
+	public String renderString(@Nullable Object... values) {
+		return new String(render(values), StandardCharsets.UTF_8);
+	}
+
+	private void write(ByteArrayOutputStream out, byte[][] encoded) {
+		out.writeBytes(segments[0]);
+		for (int i = 0; i < slotOrder.length; i++) {
+			out.writeBytes(encoded[slotOrder[i]]);
+			out.writeBytes(segments[i + 1]);
+		}
+	}
+
+	private byte[][] encode(@Nullable Object[] values) {
+		if (values.length != slotOrder.length) {
+			throw new IllegalArgumentException(
+					"Expected " + slotOrder.length + " values but got " + values.length);
+		}
+		byte[][] encoded = new byte[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			encoded[i] = encode(values[i]);
+		}
+		return encoded;
+	}
+
+	private byte[] encode(@Nullable Object value) {
+		if (!encodesDirectly) {
+			return objectMapper.writeValueAsBytes(value);
+		}
+		if (value == null) {
+			return NULL;
+		}
+		if (value instanceof CharSequence text) {
+			byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(text);
+			byte[] encoded = new byte[quoted.length + 2];
+			encoded[0] = '"';
+			System.arraycopy(quoted, 0, encoded, 1, quoted.length);
+			encoded[encoded.length - 1] = '"';
+			return encoded;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+				|| value instanceof BigInteger) {
+			return value.toString().getBytes(StandardCharsets.US_ASCII);
+		}
+		if (value instanceof Boolean bool) {
+			return bool ? TRUE : FALSE;
+		}
+		return objectMapper.writeValueAsBytes(value);
+	}
+
+	private static int indexOf(byte[] source, byte[] target, int from) {
+		outer: for (int i = from; i <= source.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (source[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,60 @@
+package io.jonasg.mother.json;
+
+/**
+ * An immutable snapshot of a {@link JsonMother}, created by
+ * {@link JsonMother#freeze()}.
+ * <p>
+ * The snapshot never changes and is safe to share between threads without any
+ * locking. Each call to {@link #mother()} returns a new, independent mother
+ * that starts from the snapshot; it shares the JSON structure and only copies
+ * the nodes along the paths it modifies, so deriving a mother is cheap
+ * regardless of the size of the document.
+ * </p>
+ *
+ * <pre>
+ * static final FrozenJsonMother BOOK = JsonMother.of("data/book.json").freeze();
+ *
+ * &#64;Test
+ * void test() {
+ * 	String json = BOOK.mother().withProperty("/title", "Fiesta").build();
+ * }
+ * </pre>
+ */
+public final class FrozenJsonMother {
+
+	/**
+	 * Never modified nor handed out, it only serves to derive new mothers from.
+	 */
+	private final JsonMother prototype;
+
+	FrozenJsonMother(JsonMother prototype) {
+		this.prototype = prototype;
+	}
+
+	/**
+	 * @return a new, editable JsonMother starting from this snapshot
+	 */
+	public JsonMother mother() {
+		return prototype.derive();
+	}
+
+	/**
+	 * Builds the pretty-printed JSON of this snapshot.
+	 *
+	 * @return a JSON string representing the snapshot
+	 */
+	public String build() {
+		return mother().build();
+	}
+
+	/**
+	 * Builds the JSON of this snapshot using the given layout.
+	 *
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 * @return a JSON string representing the snapshot
+	 */
+	public String build(JsonLayout layout) {
+		return mother().build(layout);
+	}
+}
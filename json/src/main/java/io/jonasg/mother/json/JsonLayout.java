@@ -0,0 +1,18 @@
+package io.jonasg.mother.json;
+
+/**
+ * The textual layout of the JSON produced by a {@link JsonMother}.
+ */
+public enum JsonLayout {
+
+	/**
+	 * Indented output spanning multiple lines, easy to read and diff.
+	 */
+	PRETTY,
+
+	/**
+	 * Output without any insignificant whitespace, the smallest possible
+	 * representation.
+	 */
+	COMPACT
+}
@@ -0,0 +1,48 @@
+package io.jonasg.mother.json;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Summary of a {@link JsonLinesWriter} run.
+ *
+ * @param records
+ *            the number of JSON documents written
+ * @param bytes
+ *            the number of uncompressed bytes written, including line
+ *            separators
+ * @param files
+ *            the files that were written, in order
+ * @param duration
+ *            the time it took to generate and write all documents
+ */
+public record JsonLinesReport(long records, long bytes, List<Path> files, Duration duration) {
+
+	/**
+	 * @return the number of documents written per second
+	 */
+	public double recordsPerSecond() {
+		return records / seconds();
+	}
+
+	/**
+	 * @return the number of uncompressed megabytes (10^6 bytes) written per
+	 *         second
+	 */
+	public double megabytesPerSecond() {
+		return bytes / 1_000_000d / seconds();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "%d records (%.1f MB) in %d file(s) in %d ms: %.0f records/s, %.1f MB/s",
+				records, bytes / 1_000_000d, files.size(), duration.toMillis(), recordsPerSecond(),
+				megabytesPerSecond());
+	}
+
+	private double seconds() {
+		return Math.max(duration.toNanos(), 1) / 1_000_000_000d;
+	}
+}
@@ -0,0 +1,266 @@
+package io.jonasg.mother.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes JSON documents generated by a {@link JsonMother} to disk as
+ * <a href="https://jsonlines.org">JSON Lines</a> (newline-delimited JSON), one
+ * compact document per line.
+ * <p>
+ * Documents are copied into a single reusable direct buffer which is drained
+ * into a {@link FileChannel} whenever it is full. Output can optionally be
+ * gzip-compressed and rolled over to a new file once a file reaches a given
+ * size.
+ * </p>
+ *
+ * <pre>
+ * JsonLinesReport report = JsonLinesWriter.of(Path.of("target/books.jsonl.gz"))
+ * 		.withGzip()
+ * 		.withRollSize(512 * 1024 * 1024)
+ * 		.write(JsonMother.of("data/book.json"), 10_000_000, (i, book) -> book.withProperty("/id", i));
+ * </pre>
+ */
+public final class JsonLinesWriter {
+
+	/**
+	 * The default size of the direct buffer, in bytes.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+	private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+	private final Path file;
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+	private boolean gzip;
+	private long rollSize = Long.MAX_VALUE;
+
+	private JsonLinesWriter(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Creates a writer for the given file.
+	 *
+	 * @param file
+	 *            the file to write to; when rolling over, an index is inserted
+	 *            before the file extension (e.g., "books-00000.jsonl")
+	 * @return a new JsonLinesWriter
+	 */
+	public static JsonLinesWriter of(Path file) {
+		return new JsonLinesWriter(file);
+	}
+
+	/**
+	 * Compresses the written files using gzip.
+	 *
+	 * @return the current JsonLinesWriter instance for method chaining
+	 */
+	public JsonLinesWriter withGzip() {
+		this.gzip = true;
+		return this;
+	}
+
+	/**
+	 * Sets the size of the direct buffer used to write to the file channel.
+	 *
+	 * @param bufferSize
+	 *            the buffer size in bytes
+	 * @return the current JsonLinesWriter instance for method chaining
+	 */
+	public JsonLinesWriter withBufferSize(int bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	/**
+	 * Rolls over to a new file once the current file holds at least the given
+	 * number of uncompressed bytes. Files are only rolled between documents.
+	 *
+	 * @param rollSize
+	 *            the number of uncompressed bytes after which a new file is
+	 *            started
+	 * @return the current JsonLinesWriter instance for method chaining
+	 */
+	public JsonLinesWriter withRollSize(long rollSize) {
+		if (rollSize < 1) {
+			throw new IllegalArgumentException("Roll size must be positive: " + rollSize);
+		}
+		this.rollSize = rollSize;
+		return this;
+	}
+
+	/**
+	 * Generates {@code count} documents from the given mother and writes them as
+	 * JSON Lines.
+	 *
+	 * @param mother
+	 *            the mother to generate documents from, see
+	 *            {@link JsonMother#generate(long, BiConsumer)}
+	 * @param count
+	 *            the number of documents to write
+	 * @param customizer
+	 *            receives the 0-based index of the document together with a
+	 *            JsonMother to modify for that document
+	 * @return a summary of the written records, files and throughput
+	 */
+	public JsonLinesReport write(JsonMother mother, long count, BiConsumer<Long, JsonMother> customizer) {
+		return write(mother.generate(count, JsonLayout.COMPACT, customizer));
+	}
+
+	/**
+	 * Writes the given documents as JSON Lines. Every document must be compact
+	 * JSON, i.e. must not contain line breaks.
+	 *
+	 * @param documents
+	 *            the UTF-8 encoded JSON documents to write
+	 * @return a summary of the written records, files and throughput
+	 */
+	public JsonLinesReport write(Stream<byte[]> documents) {
+		long start = System.nanoTime();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+		List<Path> files = new ArrayList<>();
+		long records = 0;
+		long bytes = 0;
+
+		OutputStream out = null;
+		long fileBytes = 0;
+		try (documents) {
+			Iterator<byte[]> iterator = documents.iterator();
+			while (iterator.hasNext()) {
+				byte[] document = iterator.next();
+				if (out == null || fileBytes >= rollSize) {
+					if (out != null) {
+						out.close();
+						out = null;
+					}
+					Path next = fileAt(files.size());
+					out = open(next, buffer);
+					files.add(next);
+					fileBytes = 0;
+				}
+				out.write(document);
+				out.write('\n');
+				fileBytes += document.length + 1;
+				bytes += document.length + 1;
+				records++;
+			}
+			if (out == null) {
+				Path empty = fileAt(0);
+				out = open(empty, buffer);
+				files.add(empty);
+			}
+			out.close();
+			out = null;
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to write JSON Lines to: " + file, e);
+		} finally {
+			closeQuietly(out);
+		}
+
+		return new JsonLinesReport(records, bytes, List.copyOf(files), Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private static void closeQuietly(@Nullable OutputStream out) {
+		if (out != null) {
+			try {
+				out.close();
+			} catch (IOException ignored) {
+				// the original failure is more relevant
+			}
+		}
+	}
+
+	private OutputStream open(Path path, ByteBuffer buffer) throws IOException {
+		var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		OutputStream out = new ChannelOutputStream(channel, buffer);
+		return gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+	}
+
+	/**
+	 * @return the file with the given index, which is only inserted into the file
+	 *         name when rolling over
+	 */
+	private Path fileAt(int index) {
+		return rollSize == Long.MAX_VALUE ? file : indexedFile(index);
+	}
+
+	private Path indexedFile(int index) {
+		String fileName = file.getFileName().toString();
+		int extension = fileName.indexOf('.');
+		String suffix = String.format(Locale.ROOT, "-%05d", index);
+		String indexed = extension < 0 ? fileName + suffix
+				: fileName.substring(0, extension) + suffix + fileName.substring(extension);
+		return file.resolveSibling(indexed);
+	}
+
+	/**
+	 * Collects writes in a reusable direct buffer and drains it into a file
+	 * channel whenever it is full.
+	 */
+	private static final class ChannelOutputStream extends OutputStream {
+
+		private final FileChannel channel;
+		private final ByteBuffer buffer;
+
+		private ChannelOutputStream(FileChannel channel, ByteBuffer buffer) {
+			this.channel = channel;
+			this.buffer = buffer;
+			buffer.clear();
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (!buffer.hasRemaining()) {
+				drain();
+			}
+			buffer.put((byte) b);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			while (length > 0) {
+				if (!buffer.hasRemaining()) {
+					drain();
+				}
+				int chunk = Math.min(length, buffer.remaining());
+				buffer.put(bytes, offset, chunk);
+				offset += chunk;
+				length -= chunk;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try (channel) {
+				drain();
+			}
+		}
+
+		private void drain() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+}
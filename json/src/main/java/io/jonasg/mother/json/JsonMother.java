@@ -1,13 +1,43 @@
 package io.jonasg.mother.json;
 
+import io.jonasg.mother.core.BuildCache;
+import io.jonasg.mother.core.BuildRecording;
+import io.jonasg.mother.core.CountingOutputStream;
+import io.jonasg.mother.core.CountingWriter;
+import io.jonasg.mother.core.EditFingerprint;
+import io.jonasg.mother.core.MotherBuildEvent;
+import io.jonasg.mother.core.MotherMetrics;
 import org.jspecify.annotations.Nullable;
-import tools.jackson.core.JsonPointer;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JacksonSerializable;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
 
 /**
  * A utility class for building JSON objects - as string - based on an existing
@@ -32,12 +62,45 @@ import java.io.IOException;
  */
 public class JsonMother {
 
-	private final ObjectNode root;
-	private final ObjectMapper objectMapper;
+	static final String MOTHER = "JsonMother";
+
+	private final JsonMotherFactory factory;
+	private final String resource;
+	private ObjectNode root;
+	/**
+	 * The nodes this mother may modify in place, {@code null} as long as the whole
+	 * structure is exclusively owned by this mother, i.e. until it is forked.
+	 */
+	private @Nullable Set<JsonNode> ownedNodes;
+	/**
+	 * Containers that occur at several places of the structure, like the elements
+	 * of {@link #withArrayRepeated(PointerPath, int, PointerPath)}, which are never
+	 * modified in place; {@code null} as long as there are none.
+	 */
+	private @Nullable Set<JsonNode> sharedNodes;
+	/**
+	 * The recorded edits that are not yet applied, {@code null} unless edits are
+	 * {@link #deferred() deferred}.
+	 */
+	private @Nullable List<DeferredEdit> deferredEdits;
+	private int editCount;
+	/**
+	 * Identifies the content this mother was created from for the build cache,
+	 * {@code null} if it can not be identified.
+	 */
+	private final @Nullable Object cacheSource;
+	private @Nullable BuildCache buildCache;
+	private @Nullable EditFingerprint fingerprint;
+
+	JsonMother(ObjectNode root, JsonMotherFactory factory, String resource) {
+		this(root, factory, resource, null);
+	}
 
-	private JsonMother(ObjectNode root, ObjectMapper objectMapper) {
+	JsonMother(ObjectNode root, JsonMotherFactory factory, String resource, @Nullable Object cacheSource) {
 		this.root = root;
-		this.objectMapper = objectMapper;
+		this.factory = factory;
+		this.resource = resource;
+		this.cacheSource = cacheSource;
 	}
 
 	/**
@@ -55,7 +118,7 @@ public class JsonMother {
 	 *             if there is an error processing the JSON content
 	 */
 	public static JsonMother of(String filePath) {
-		return of(JsonMother.class.getClassLoader(), filePath);
+		return JsonMotherFactory.defaultFactory().of(filePath);
 	}
 
 	/**
@@ -76,26 +139,381 @@ public class JsonMother {
 	 *             if there is an error processing the JSON content
 	 */
 	public static JsonMother of(Class<?> clazz, String fileName) {
-		if (fileName.contains("/")) {
-			throw new IllegalArgumentException(
-					"When Loading file relative to class, the file name must not contain path separators: " + fileName);
+		return JsonMotherFactory.defaultFactory().of(clazz, fileName);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing a JSON file on the file system.
+	 * The file is memory-mapped and parsed straight from the mapping, which makes
+	 * this the fastest way to load large generated fixtures.
+	 *
+	 * @param path
+	 *            the path to the JSON file (e.g., "target/fixtures/large.json")
+	 * @return a new JsonMother instance initialized with the content of the
+	 *         specified JSON file
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 * @throws RuntimeException
+	 *             if the file can not be read or parsed
+	 */
+	public static JsonMother of(Path path) {
+		return JsonMotherFactory.defaultFactory().of(path);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the given UTF-8 encoded JSON.
+	 *
+	 * @param json
+	 *            the JSON document
+	 * @return a new JsonMother instance initialized with the given content
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public static JsonMother of(byte[] json) {
+		return JsonMotherFactory.defaultFactory().of(json);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the JSON read from the given
+	 * stream. The stream is not closed.
+	 *
+	 * @param inputStream
+	 *            the stream to read the JSON document from
+	 * @return a new JsonMother instance initialized with the content of the stream
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public static JsonMother of(InputStream inputStream) {
+		return JsonMotherFactory.defaultFactory().of(inputStream);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the given JSON document.
+	 * <p>
+	 * Named differently from {@link #of(String)}, which loads a file from the
+	 * classpath.
+	 * </p>
+	 *
+	 * @param json
+	 *            the JSON document, e.g. <code>{"title": "The Great Gatsby"}</code>
+	 * @return a new JsonMother instance initialized with the given content
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public static JsonMother ofJson(String json) {
+		return JsonMotherFactory.defaultFactory().ofJson(json);
+	}
+
+	/**
+	 * Creates a StreamingJsonMother for a JSON file on the classpath. The file is
+	 * never loaded into memory as a whole; edits are applied while the file is
+	 * streamed to the output.
+	 *
+	 * @param filePath
+	 *            the path to the JSON file in the classpath (e.g.,
+	 *            "data/export.json")
+	 * @return a new StreamingJsonMother for the specified JSON file
+	 */
+	public static StreamingJsonMother streaming(String filePath) {
+		return JsonMotherFactory.defaultFactory().streaming(filePath);
+	}
+
+	/**
+	 * Creates a StreamingJsonMother for a JSON file on the file system. The file
+	 * is never loaded into memory as a whole; edits are applied while the file is
+	 * streamed to the output.
+	 *
+	 * @param path
+	 *            the path to the JSON file
+	 * @return a new StreamingJsonMother for the specified JSON file
+	 */
+	public static StreamingJsonMother streaming(Path path) {
+		return JsonMotherFactory.defaultFactory().streaming(path);
+	}
+
+	/**
+	 * Returns the cache holding the parsed JSON files loaded by the
+	 * {@link JsonMotherFactory#defaultFactory() default factory} through the given
+	 * ClassLoader.
+	 * <p>
+	 * Each JSON file is read and parsed once; every JsonMother created from it
+	 * receives its own deep copy of the parsed tree.
+	 * </p>
+	 *
+	 * @param classLoader
+	 *            the ClassLoader the JSON files are loaded from
+	 * @return the template cache for the given ClassLoader
+	 */
+	public static JsonTemplateCache templateCache(ClassLoader classLoader) {
+		return JsonMotherFactory.defaultFactory().templateCache(classLoader);
+	}
+
+	/**
+	 * Creates a new JsonMother that starts from the current state of this one.
+	 * <p>
+	 * Forking is cheap: the new mother shares the JSON structure with this one.
+	 * Whenever either of them modifies a property, only the nodes along the
+	 * modified JSON Pointer path are copied, all other nodes remain shared. Edits
+	 * on the fork are therefore never visible in this mother and vice versa.
+	 * </p>
+	 *
+	 * <pre>
+	 * var base = JsonMother.of("data/book.json").withProperty("/author/name", "Ernest Hemingway");
+	 * String first = base.fork().withProperty("/title", "The Old Man and the Sea").build();
+	 * String second = base.fork().withProperty("/title", "A Farewell to Arms").build();
+	 * </pre>
+	 *
+	 * @return a new JsonMother instance sharing the current JSON structure
+	 */
+	public JsonMother fork() {
+		resolvedRoot();
+		ownedNodes = newIdentitySet();
+		return derive();
+	}
+
+	/**
+	 * Returns an immutable snapshot of the current state of this mother.
+	 * <p>
+	 * The snapshot can be shared freely between threads, e.g. as a static base
+	 * for tests that run in parallel. Every thread derives its own editable
+	 * mother through {@link FrozenJsonMother#mother()}, which like
+	 * {@link #fork()} shares the JSON structure and only copies the nodes it
+	 * modifies. Later edits on this mother are not visible in the snapshot.
+	 * </p>
+	 *
+	 * <pre>
+	 * static final FrozenJsonMother BOOK = JsonMother.of("data/book.json")
+	 * 		.withProperty("/author/name", "Ernest Hemingway")
+	 * 		.freeze();
+	 *
+	 * String json = BOOK.mother().withProperty("/title", "Fiesta").build();
+	 * </pre>
+	 *
+	 * @return an immutable, thread-safe snapshot of the current JSON structure
+	 */
+	public FrozenJsonMother freeze() {
+		return new FrozenJsonMother(fork());
+	}
+
+	/**
+	 * @return the resolved structure of this mother, only to be read
+	 */
+	ObjectNode tree() {
+		return resolvedRoot();
+	}
+
+	/**
+	 * Creates a new mother sharing the resolved structure of this one without
+	 * modifying this mother, the caller is responsible for no longer modifying
+	 * the shared nodes in place.
+	 */
+	JsonMother derive() {
+		var derived = new JsonMother(root, factory, resource, cacheSource);
+		derived.ownedNodes = newIdentitySet();
+		derived.editCount = editCount;
+		derived.buildCache = buildCache;
+		derived.fingerprint = fingerprint == null ? null : fingerprint.copy();
+		if (deferredEdits != null) {
+			derived.deferredEdits = new ArrayList<>();
 		}
-		String packagePath = clazz.getPackageName().replace('.', '/');
-		String filePath = packagePath + "/" + fileName;
-		return of(clazz.getClassLoader(), filePath);
+		return derived;
 	}
 
-	private static JsonMother of(ClassLoader classLoader, String filePath) {
-		var mapper = new ObjectMapper();
-		try (var is = classLoader.getResourceAsStream(filePath)) {
-			if (is == null) {
-				throw new IllegalArgumentException("Resource not found: " + filePath);
-			}
-			JsonNode node = mapper.readTree(is);
-			return new JsonMother((ObjectNode) node, mapper);
-		} catch (IOException e) {
-			throw new RuntimeException("Failed to load JSON from: " + filePath, e);
+	/**
+	 * Switches this mother to deferred mode: from now on edits are only recorded
+	 * and applied when the JSON is built, in the order they were made.
+	 * Consecutive {@code withProperty} edits are applied in a single traversal
+	 * that walks every part of the structure they share only once, any other edit
+	 * walks the structure from the root on its own.
+	 * <p>
+	 * Recorded edits are coalesced: an edit of a JSON Pointer discards all earlier
+	 * recorded edits of that same pointer and of the properties below it, as those
+	 * would be overwritten or removed anyway. As removing an array element shifts
+	 * the elements after it, an edit through an array index does not discard
+	 * anything once an array element has been removed. This avoids repeatedly converting
+	 * values and creating intermediate nodes when e.g. a base
+	 * {@code withDefaults()} sets a property that a test overrides again. Note
+	 * that intermediate objects or arrays an overwritten edit would have created
+	 * are not created either.
+	 * </p>
+	 *
+	 * <pre>
+	 * String json = JsonMother.of("data/book.json")
+	 * 		.deferred()
+	 * 		.withProperty("/author/name", "F. Scott Fitzgerald")
+	 * 		.withProperty("/author/name", "Ernest Hemingway") // only this one is applied
+	 * 		.build();
+	 * </pre>
+	 *
+	 * @return the current JsonMother instance for method chaining
+	 */
+	public JsonMother deferred() {
+		if (deferredEdits == null) {
+			deferredEdits = new ArrayList<>();
+		}
+		return this;
+	}
+
+	/**
+	 * Enables the {@link BuildCache#shared() shared} build cache for this mother.
+	 *
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 * @see #withBuildCache(BuildCache)
+	 */
+	public JsonMother withBuildCache() {
+		return withBuildCache(BuildCache.shared());
+	}
+
+	/**
+	 * Enables the given build cache for this mother.
+	 * <p>
+	 * Every subsequent edit is fingerprinted. Building returns the output stored
+	 * for a mother of the same classpath resource with identical edits, if any,
+	 * without serializing the JSON structure again. Mothers that are not loaded
+	 * from the classpath, or that are edited with functions, JsonNodes or other
+	 * objects than plain values, collections and maps, are built as usual. Forks
+	 * keep using the cache.
+	 * </p>
+	 *
+	 * <pre>
+	 * static JsonMother book() {
+	 * 	return JsonMother.of("data/book.json").withBuildCache();
+	 * }
+	 * </pre>
+	 *
+	 * @param cache
+	 *            the cache to store the built outputs in
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 */
+	public JsonMother withBuildCache(BuildCache cache) {
+		if (editCount > 0) {
+			throw new IllegalStateException("The build cache must be enabled before the first edit");
 		}
+		buildCache = cache;
+		fingerprint = EditFingerprint.of(cacheSource == null ? null : List.of(getClass(), factory, cacheSource));
+		return this;
+	}
+
+	/**
+	 * Generates {@code count} compact JSON documents, each starting from the
+	 * current state of this mother and customized by the given customizer.
+	 *
+	 * @param count
+	 *            the number of documents to generate
+	 * @param customizer
+	 *            receives the 0-based index of the document together with a
+	 *            JsonMother to modify for that document
+	 * @return a lazily evaluated stream of UTF-8 encoded JSON documents
+	 * @see #generate(long, JsonLayout, BiConsumer)
+	 */
+	public Stream<byte[]> generate(long count, BiConsumer<Long, JsonMother> customizer) {
+		return generate(count, JsonLayout.COMPACT, customizer);
+	}
+
+	/**
+	 * Generates {@code count} JSON documents, each starting from the current state
+	 * of this mother and customized by the given customizer.
+	 * <p>
+	 * Documents are only created when the stream is consumed. Every document is
+	 * built from a {@link #fork() fork} of the current JSON structure, so nothing
+	 * is reloaded and only the nodes touched by the customizer are copied. The
+	 * returned stream is ordered by index and can be split across the ForkJoin
+	 * pool with {@link Stream#parallel()}; use {@link Stream#forEachOrdered} to
+	 * keep the output deterministic or {@link Stream#unordered()} when order does
+	 * not matter. The customizer must be thread-safe when the stream is consumed
+	 * in parallel. Later modifications of this mother do not affect the stream.
+	 * </p>
+	 *
+	 * <pre>
+	 * JsonMother.of("data/book.json")
+	 * 		.generate(1_000_000, JsonLayout.COMPACT, (i, book) -> book
+	 * 				.withProperty("/id", i)
+	 * 				.withProperty("/price", ThreadLocalRandom.current().nextInt(100)))
+	 * 		.parallel()
+	 * 		.forEachOrdered(producer::send);
+	 * </pre>
+	 *
+	 * @param count
+	 *            the number of documents to generate
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 * @param customizer
+	 *            receives the 0-based index of the document together with a
+	 *            JsonMother to modify for that document
+	 * @return a lazily evaluated stream of UTF-8 encoded JSON documents
+	 */
+	public Stream<byte[]> generate(long count, JsonLayout layout, BiConsumer<Long, JsonMother> customizer) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Count must not be negative: " + count);
+		}
+		ObjectNode template = resolvedRoot();
+		// from now on the current structure is shared with the generated documents
+		ownedNodes = newIdentitySet();
+		return LongStream.range(0, count)
+				.mapToObj(index -> {
+					var document = new JsonMother(template, factory, resource);
+					document.editCount = editCount;
+					document.ownedNodes = newIdentitySet();
+					customizer.accept(index, document);
+					return document.buildBytes(layout);
+				});
+	}
+
+	/**
+	 * Compiles the current state into an immutable template whose only variable
+	 * parts are the properties at the given pointers.
+	 * <p>
+	 * The rest of the document is serialized once, rendering the template only
+	 * encodes the supplied values, see {@link CompiledJsonTemplate}. This mother
+	 * is not modified by compiling.
+	 * </p>
+	 *
+	 * @param jsonPointers
+	 *            the paths to the properties that are supplied on every render,
+	 *            using <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation without wildcards
+	 * @return the compiled template
+	 * @throws IllegalArgumentException
+	 *             if a pointer denotes the root, contains a wildcard or is
+	 *             replaced by another pointer
+	 */
+	public CompiledJsonTemplate compile(String... jsonPointers) {
+		return compile(Stream.of(jsonPointers).map(PointerPath::compile).toArray(PointerPath[]::new));
+	}
+
+	/**
+	 * Compiles the current state into an immutable template whose only variable
+	 * parts are the properties at the given pre-compiled pointers.
+	 *
+	 * @param paths
+	 *            the compiled paths to the properties that are supplied on every
+	 *            render, see {@link #path(String)}
+	 * @return the compiled template
+	 * @see #compile(String...)
+	 */
+	public CompiledJsonTemplate compile(PointerPath... paths) {
+		JsonMother template = fork();
+		// the placeholder output is never built again
+		template.buildCache = null;
+		return CompiledJsonTemplate.compile(template, List.of(paths), factory.objectMapper());
+	}
+
+	/**
+	 * Compiles the given JSON Pointer so it can be reused across many edits
+	 * without being parsed again.
+	 *
+	 * @param jsonPointer
+	 *            the path to compile, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/author/name" or "/genres/0/type")
+	 * @return the compiled pointer
+	 */
+	public static PointerPath path(String jsonPointer) {
+		return PointerPath.compile(jsonPointer);
 	}
 
 	/**
@@ -113,92 +531,95 @@ public class JsonMother {
 	 * @return the current JsonMother instance for method chaining
 	 */
 	public JsonMother withProperty(String jsonPointer, @Nullable Object value) {
-		JsonPointer pointer = JsonPointer.compile(jsonPointer);
+		return withProperty(PointerPath.compile(jsonPointer), value);
+	}
 
-		if (pointer.matches()) {
+	/**
+	 * Modifies the JSON structure by setting a property at the specified
+	 * pre-compiled JSON Pointer path to the given value. Missing intermediate
+	 * objects and arrays are created while walking the path.
+	 *
+	 * @param path
+	 *            the compiled path to the property to set, see
+	 *            {@link #path(String)}
+	 * @param value
+	 *            the value to set at the specified path; can be a primitive type, a
+	 *            String, or any object that can be
+	 *            converted to JSON using Jackson's ObjectMapper
+	 * @return the current JsonMother instance for method chaining
+	 */
+	public JsonMother withProperty(PointerPath path, @Nullable Object value) {
+		return propertyEdit("withProperty", path, value, value);
+	}
+
+	private void setProperty(PointerPath path, @Nullable Object value) {
+		if (path.isRoot()) {
 			setRootValue(value);
-			return this;
+			return;
 		}
 
-		JsonPointer parentPointer = pointer.head();
-		JsonNode parentNode = getOrCreateParentNode(parentPointer, pointer);
-
-		String lastSegment = pointer.last().toString().replace("/", "");
+		int last = path.depth() - 1;
+		JsonNode parentNode = writableRoot();
+		for (int i = 0; i < last; i++) {
+			parentNode = getOrCreateChild(parentNode, path, i);
+		}
+		setChild(parentNode, path, value);
+	}
 
+	/**
+	 * Sets the last segment of the path in the given parent to the value.
+	 */
+	private void setChild(JsonNode parentNode, PointerPath path, @Nullable Object value) {
+		int last = path.depth() - 1;
 		if (parentNode instanceof ObjectNode objectNode) {
-			objectNode.putPOJO(lastSegment, value);
+			if (value instanceof JsonNode node) {
+				objectNode.set(path.segment(last), node);
+			} else {
+				objectNode.putPOJO(path.segment(last), value);
+			}
 		} else if (parentNode instanceof ArrayNode arrayNode) {
-			try {
-				int index = Integer.parseInt(lastSegment);
-				while (arrayNode.size() <= index) {
-					arrayNode.addNull();
-				}
-				arrayNode.set(index, convertValue(value));
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException("Invalid array index: " + lastSegment);
+			int index = path.index(last);
+			while (arrayNode.size() <= index) {
+				arrayNode.addNull();
 			}
+			arrayNode.set(index, convertValue(value));
 		}
-
-		return this;
 	}
 
-	private JsonNode getOrCreateParentNode(JsonPointer pointer, JsonPointer originalPointer) {
-		if (pointer.matches()) {
-			return root;
+	private JsonNode getOrCreateChild(JsonNode parentNode, PointerPath path, int position) {
+		if (!parentNode.isContainer()) {
+			// values can't hold children, whatever gets created below is discarded
+			return factory.objectMapper().createObjectNode();
 		}
 
-		JsonNode node = root.at(pointer);
+		JsonNode node = child(parentNode, path, position);
 		if (node != null && !node.isNull() && !node.isMissingNode()) {
-			return node;
-		}
-
-		JsonPointer parentPointer = pointer.head();
-		JsonNode parentNode = getOrCreateParentNode(parentPointer, originalPointer);
-
-		String segment = pointer.last().toString().replace("/", "");
-
-		boolean isArrayIndex = isNumeric(segment);
-		if (!isArrayIndex && !pointer.matches()) {
-			String fullPath = originalPointer.toString();
-			String[] parts = fullPath.split("/");
-			int currentDepth = countParts(pointer.toString());
-			if (currentDepth < parts.length - 1) {
-				String nextSegment = parts[currentDepth + 1];
-				isArrayIndex = isNumeric(nextSegment);
-			}
+			return writable(parentNode, path, position, node);
 		}
 
+		var mapper = factory.objectMapper();
 		JsonNode newNode;
 		if (parentNode.isArray()) {
-			newNode = objectMapper.createObjectNode();
+			newNode = mapper.createObjectNode();
 		} else {
-			newNode = isArrayIndex ? objectMapper.createArrayNode() : objectMapper.createObjectNode();
+			newNode = path.isIndex(position) || path.isIndex(position + 1) ? mapper.createArrayNode()
+					: mapper.createObjectNode();
 		}
+		own(newNode);
 
 		if (parentNode instanceof ObjectNode objectNode) {
-			objectNode.set(segment, newNode);
+			objectNode.set(path.segment(position), newNode);
 		} else if (parentNode instanceof ArrayNode arrayNode) {
-			try {
-				int index = Integer.parseInt(segment);
-				while (arrayNode.size() <= index) {
-					arrayNode.addNull();
-				}
-				arrayNode.set(index, newNode);
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException("Invalid array index: " + segment);
+			int index = path.index(position);
+			while (arrayNode.size() <= index) {
+				arrayNode.addNull();
 			}
+			arrayNode.set(index, newNode);
 		}
 
 		return newNode;
 	}
 
-	private int countParts(String path) {
-		if (path.isEmpty() || path.equals("/")) {
-			return 0;
-		}
-		return path.split("/").length - 1;
-	}
-
 	/**
 	 * Removes a property from the JSON structure at the specified JSON Pointer
 	 * path.
@@ -210,37 +631,528 @@ public class JsonMother {
 	 * @return the current JsonMother instance for method chaining
 	 */
 	public JsonMother withRemovedProperty(String jsonPointer) {
-		JsonPointer pointer = JsonPointer.compile(jsonPointer);
-
-		JsonPointer parentPointer = pointer.head();
-		JsonNode parentNode;
+		return withRemovedProperty(PointerPath.compile(jsonPointer));
+	}
 
-		if (parentPointer.matches()) {
-			parentNode = root;
-		} else {
-			parentNode = root.at(parentPointer);
+	/**
+	 * Removes a property from the JSON structure at the specified pre-compiled
+	 * JSON Pointer path.
+	 *
+	 * @param path
+	 *            the compiled path to the property to remove, see
+	 *            {@link #path(String)}
+	 * @return the current JsonMother instance for method chaining
+	 */
+	public JsonMother withRemovedProperty(PointerPath path) {
+		if (path.isRoot()) {
+			throw new IllegalArgumentException("The root of the JSON structure can not be removed");
 		}
+		return edit("withRemovedProperty", path, true, () -> removeProperty(path));
+	}
 
-		if (parentNode == null) {
-			return this;
+	private void removeProperty(PointerPath path) {
+		int last = path.depth() - 1;
+		if ((ownedNodes != null || sharedNodes != null) && !isContainer(nodeAt(path, last))) {
+			// nothing to remove, don't copy shared nodes on the way
+			return;
 		}
 
-		String lastSegment = pointer.last().toString().replace("/", "");
+		JsonNode parentNode = writableRoot();
+		for (int i = 0; i < last; i++) {
+			JsonNode node = parentNode.isArray() && !path.isIndex(i) ? null : child(parentNode, path, i);
+			if (!isContainer(node)) {
+				return;
+			}
+			parentNode = writable(parentNode, path, i, node);
+		}
 
 		if (parentNode instanceof ObjectNode objectNode) {
-			objectNode.remove(lastSegment);
+			objectNode.remove(path.segment(last));
 		} else if (parentNode instanceof ArrayNode arrayNode) {
-			try {
-				int index = Integer.parseInt(lastSegment);
-				if (index >= 0 && index < arrayNode.size()) {
+			int index = path.index(last);
+			if (index >= 0 && index < arrayNode.size()) {
+				arrayNode.remove(index);
+			}
+		}
+	}
+
+	/**
+	 * Sets a property at every location matched by the given JSON Pointer, in
+	 * which a {@code *} segment matches every element of an array or every
+	 * property of an object.
+	 * <p>
+	 * All matches are modified in a single traversal, e.g.
+	 * <code>withPropertyAll("/items/*&#47;price", 10)</code> sets the price of
+	 * every item. Missing intermediate objects and arrays below a wildcard are created,
+	 * locations above it have to exist.
+	 * </p>
+	 *
+	 * @param jsonPointer
+	 *            the path to the properties to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation with {@code *} as wildcard segment
+	 * @param value
+	 *            the value to set at every matched location
+	 * @return the current JsonMother instance for method chaining
+	 */
+	public JsonMother withPropertyAll(String jsonPointer, @Nullable Object value) {
+		return withPropertyAll(PointerPath.compile(jsonPointer), value);
+	}
+
+	/**
+	 * Sets a property at every location matched by the given pre-compiled JSON
+	 * Pointer with wildcards.
+	 *
+	 * @param path
+	 *            the compiled path to the properties to set, see
+	 *            {@link #path(String)}
+	 * @param value
+	 *            the value to set at every matched location
+	 * @return the current JsonMother instance for method chaining
+	 * @see #withPropertyAll(String, Object)
+	 */
+	public JsonMother withPropertyAll(PointerPath path, @Nullable Object value) {
+		return withPropertyAll(path, new Values(element -> value, true), value);
+	}
+
+	/**
+	 * Sets a property at every location matched by the given JSON Pointer to a
+	 * value computed per matched element.
+	 *
+	 * @param jsonPointer
+	 *            the path to the properties to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation with {@code *} as wildcard segment
+	 * @param valueFunction
+	 *            computes the value from the element matched by the last wildcard,
+	 *            e.g. the item for <code>"/items/*&#47;price"</code>, or from the
+	 *            parent of the property when the pointer has no wildcard
+	 * @return the current JsonMother instance for method chaining
+	 * @see #withPropertyAll(String, Object)
+	 */
+	public JsonMother withPropertyAll(String jsonPointer, Function<JsonNode, @Nullable Object> valueFunction) {
+		return withPropertyAll(PointerPath.compile(jsonPointer), valueFunction);
+	}
+
+	/**
+	 * Sets a property at every location matched by the given pre-compiled JSON
+	 * Pointer to a value computed per matched element.
+	 *
+	 * @param path
+	 *            the compiled path to the properties to set, see
+	 *            {@link #path(String)}
+	 * @param valueFunction
+	 *            computes the value from the element matched by the last wildcard
+	 * @return the current JsonMother instance for method chaining
+	 * @see #withPropertyAll(String, Function)
+	 */
+	public JsonMother withPropertyAll(PointerPath path, Function<JsonNode, @Nullable Object> valueFunction) {
+		return withPropertyAll(path, new Values(valueFunction, false), valueFunction);
+	}
+
+	private JsonMother withPropertyAll(PointerPath path, Values values, @Nullable Object argument) {
+		return edit("withPropertyAll", path, false, () -> setPropertyAll(path, values), argument);
+	}
+
+	/**
+	 * Removes the property at every location matched by the given JSON Pointer, in
+	 * which a {@code *} segment matches every element of an array or every
+	 * property of an object, e.g.
+	 * <code>withRemovedPropertyAll("/items/*&#47;internal")</code>.
+	 *
+	 * @param jsonPointer
+	 *            the path to the properties to remove, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation with {@code *} as wildcard segment
+	 * @return the current JsonMother instance for method chaining
+	 */
+	public JsonMother withRemovedPropertyAll(String jsonPointer) {
+		return withRemovedPropertyAll(PointerPath.compile(jsonPointer));
+	}
+
+	/**
+	 * Removes the property at every location matched by the given pre-compiled
+	 * JSON Pointer with wildcards.
+	 *
+	 * @param path
+	 *            the compiled path to the properties to remove, see
+	 *            {@link #path(String)}
+	 * @return the current JsonMother instance for method chaining
+	 * @see #withRemovedPropertyAll(String)
+	 */
+	public JsonMother withRemovedPropertyAll(PointerPath path) {
+		if (path.isRoot()) {
+			throw new IllegalArgumentException("The root of the JSON structure can not be removed");
+		}
+		return edit("withRemovedPropertyAll", path, true, () -> removePropertyAll(path));
+	}
+
+	/**
+	 * Sets an array with {@code count} elements created by the given factory at
+	 * the specified JSON Pointer path. The array is sized upfront and filled in a
+	 * single pass.
+	 *
+	 * <pre>
+	 * JsonMother.of("data/library.json")
+	 * 		.withArrayOf("/books", 1000, i -&gt; Map.of("id", i, "title", "Book " + i))
+	 * 		.build();
+	 * </pre>
+	 *
+	 * @param jsonPointer
+	 *            the path to the array to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/books")
+	 * @param count
+	 *            the number of elements
+	 * @param elementFactory
+	 *            receives the 0-based index and returns the element at that index;
+	 *            can be a primitive type, a String, a JsonNode or any object that
+	 *            can be converted to JSON using Jackson's ObjectMapper
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative
+	 */
+	public JsonMother withArrayOf(String jsonPointer, int count, IntFunction<@Nullable Object> elementFactory) {
+		return withArrayOf(PointerPath.compile(jsonPointer), count, elementFactory);
+	}
+
+	/**
+	 * Sets an array with {@code count} elements created by the given factory at
+	 * the specified pre-compiled JSON Pointer path.
+	 *
+	 * @param path
+	 *            the compiled path to the array to set, see {@link #path(String)}
+	 * @param count
+	 *            the number of elements
+	 * @param elementFactory
+	 *            receives the 0-based index and returns the element at that index
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative
+	 * @see #withArrayOf(String, int, IntFunction)
+	 */
+	public JsonMother withArrayOf(PointerPath path, int count, IntFunction<@Nullable Object> elementFactory) {
+		requireCount(count);
+		return edit("withArrayOf", path, false, () -> {
+			ArrayNode array = factory.objectMapper().getNodeFactory().arrayNode(count);
+			for (int i = 0; i < count; i++) {
+				array.add(convertValue(elementFactory.apply(i)));
+			}
+			setProperty(path, own(array));
+		}, count, elementFactory);
+	}
+
+	/**
+	 * Sets an array at the specified JSON Pointer path holding {@code count}
+	 * repetitions of the node found at the template path.
+	 * <p>
+	 * The repetitions share a single copy of the template, which takes constant
+	 * memory regardless of the count. Modifying an element afterwards, e.g.
+	 * {@code withProperty("/books/3/title", "...")}, only copies that element.
+	 * </p>
+	 *
+	 * @param jsonPointer
+	 *            the path to the array to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/books")
+	 * @param count
+	 *            the number of elements
+	 * @param templatePointer
+	 *            the path to the node to repeat (e.g., "/books/0")
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative, or if there is no node at the template path
+	 */
+	public JsonMother withArrayRepeated(String jsonPointer, int count, String templatePointer) {
+		return withArrayRepeated(PointerPath.compile(jsonPointer), count, PointerPath.compile(templatePointer));
+	}
+
+	/**
+	 * Sets an array at the specified pre-compiled JSON Pointer path holding
+	 * {@code count} repetitions of the node found at the template path.
+	 *
+	 * @param path
+	 *            the compiled path to the array to set, see {@link #path(String)}
+	 * @param count
+	 *            the number of elements
+	 * @param templatePath
+	 *            the compiled path to the node to repeat
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative, or if there is no node at the template path
+	 * @see #withArrayRepeated(String, int, String)
+	 */
+	public JsonMother withArrayRepeated(PointerPath path, int count, PointerPath templatePath) {
+		requireCount(count);
+		return edit("withArrayRepeated", path, false, () -> {
+			JsonNode template = nodeAt(templatePath, templatePath.depth());
+			if (template == null || template.isMissingNode()) {
+				throw new IllegalArgumentException("No node found at template path: " + templatePath);
+			}
+			JsonNode element = template;
+			if (template.isContainer()) {
+				// an edit below an element copies the shared nodes on its path only
+				element = share(template.deepCopy());
+			}
+			ArrayNode array = factory.objectMapper().getNodeFactory().arrayNode(count);
+			for (int i = 0; i < count; i++) {
+				array.add(element);
+			}
+			setProperty(path, own(array));
+		}, count, templatePath.toString());
+	}
+
+	/**
+	 * Sets an array with {@code count} elements at the specified JSON Pointer path
+	 * whose elements are only created while the JSON is being built.
+	 * <p>
+	 * Each element is created by the factory and serialized right away, so the
+	 * elements never all exist in memory at once. Combine it with
+	 * {@link #buildTo(OutputStream)} to write arrays that would not fit on the
+	 * heap. The factory is invoked again on every build. The array is opaque to
+	 * the mother: properties below it can not be modified.
+	 * </p>
+	 *
+	 * @param jsonPointer
+	 *            the path to the array to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/events")
+	 * @param count
+	 *            the number of elements
+	 * @param elementFactory
+	 *            receives the 0-based index and returns the element at that index
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative
+	 */
+	public JsonMother withLazyArrayOf(String jsonPointer, long count, LongFunction<@Nullable Object> elementFactory) {
+		return withLazyArrayOf(PointerPath.compile(jsonPointer), count, elementFactory);
+	}
+
+	/**
+	 * Sets an array with {@code count} elements at the specified pre-compiled JSON
+	 * Pointer path whose elements are only created while the JSON is being built.
+	 *
+	 * @param path
+	 *            the compiled path to the array to set, see {@link #path(String)}
+	 * @param count
+	 *            the number of elements
+	 * @param elementFactory
+	 *            receives the 0-based index and returns the element at that index
+	 * @return the current JsonMother instance for method chaining
+	 * @throws IllegalArgumentException
+	 *             if count is negative
+	 * @see #withLazyArrayOf(String, long, LongFunction)
+	 */
+	public JsonMother withLazyArrayOf(PointerPath path, long count, LongFunction<@Nullable Object> elementFactory) {
+		requireCount(count);
+		var array = new LazyArray(count, elementFactory);
+		return propertyEdit("withLazyArrayOf", path, array, count, elementFactory);
+	}
+
+	private void setPropertyAll(PointerPath path, Values values) {
+		if (path.isRoot()) {
+			setRootValue(values.function().apply(root));
+			return;
+		}
+		int last = path.depth() - 1;
+		forEachParent(writableRoot(), path, 0, !path.hasWildcard(), null, (parentNode, element) -> {
+			if (path.isWildcard(last)) {
+				if (parentNode instanceof ObjectNode objectNode) {
+					for (String name : new ArrayList<>(objectNode.propertyNames())) {
+						values.put(objectNode, name, objectNode.get(name));
+					}
+				} else if (parentNode instanceof ArrayNode arrayNode) {
+					for (int i = 0; i < arrayNode.size(); i++) {
+						arrayNode.set(i, values.convert(arrayNode.get(i)));
+					}
+				}
+			} else if (parentNode instanceof ObjectNode objectNode) {
+				values.put(objectNode, path.segment(last), element);
+			} else if (parentNode instanceof ArrayNode arrayNode && path.isIndex(last)) {
+				int index = path.index(last);
+				while (arrayNode.size() <= index) {
+					arrayNode.addNull();
+				}
+				arrayNode.set(index, values.convert(element));
+			}
+		});
+	}
+
+	private void removePropertyAll(PointerPath path) {
+		int last = path.depth() - 1;
+		forEachParent(writableRoot(), path, 0, false, null, (parentNode, element) -> {
+			if (path.isWildcard(last)) {
+				if (parentNode instanceof ObjectNode objectNode) {
+					objectNode.removeAll();
+				} else if (parentNode instanceof ArrayNode arrayNode) {
+					arrayNode.removeAll();
+				}
+			} else if (parentNode instanceof ObjectNode objectNode) {
+				objectNode.remove(path.segment(last));
+			} else if (parentNode instanceof ArrayNode arrayNode && path.isIndex(last)) {
+				int index = path.index(last);
+				if (index < arrayNode.size()) {
 					arrayNode.remove(index);
 				}
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException("Invalid array index: " + lastSegment);
 			}
+		});
+	}
+
+	/**
+	 * Walks the given path in a single traversal, expanding wildcards, and calls
+	 * the visitor with every writable parent of the last segment together with the
+	 * element matched by the last wildcard. Matches that can not hold the next
+	 * segment, like a scalar or an array for a property name, are skipped.
+	 */
+	private void forEachParent(JsonNode node, PointerPath path, int position, boolean create,
+			@Nullable JsonNode element, BiConsumer<JsonNode, JsonNode> visitor) {
+		if (position == path.depth() - 1) {
+			visitor.accept(node, element != null ? element : node);
+			return;
 		}
 
-		return this;
+		if (path.isWildcard(position)) {
+			if (node instanceof ArrayNode arrayNode) {
+				for (int i = 0; i < arrayNode.size(); i++) {
+					JsonNode child = arrayNode.get(i);
+					if (child.isContainer()) {
+						JsonNode writableChild = writable(arrayNode, "", i, child);
+						forEachParent(writableChild, path, position + 1, true, writableChild, visitor);
+					}
+				}
+			} else if (node instanceof ObjectNode objectNode) {
+				for (String name : new ArrayList<>(objectNode.propertyNames())) {
+					JsonNode child = objectNode.get(name);
+					if (child.isContainer()) {
+						JsonNode writableChild = writable(objectNode, name, -1, child);
+						forEachParent(writableChild, path, position + 1, true, writableChild, visitor);
+					}
+				}
+			}
+			return;
+		}
+
+		if (node.isArray() && !path.isIndex(position)) {
+			// an array matched by a wildcard has no named properties
+			return;
+		}
+		JsonNode child;
+		if (create) {
+			child = getOrCreateChild(node, path, position);
+		} else {
+			child = child(node, path, position);
+			if (!isContainer(child)) {
+				return;
+			}
+			child = writable(node, path, position, child);
+		}
+		forEachParent(child, path, position + 1, create, element, visitor);
+	}
+
+	private static void defer(List<DeferredEdit> deferredEdits, DeferredEdit edit) {
+		// after an element is removed, the same index refers to the next element,
+		// so an edit through an index only replaces earlier edits if none removed
+		// elements
+		boolean coalesce = !edit.path().isRoot()
+				&& (!hasIndex(edit.path()) || deferredEdits.stream().noneMatch(DeferredEdit::removesElements));
+		if (coalesce) {
+			String pointer = edit.path().toString();
+			deferredEdits.removeIf(recorded -> {
+				String recordedPointer = recorded.path().toString();
+				return recordedPointer.startsWith(pointer)
+						&& (recordedPointer.length() == pointer.length()
+								|| recordedPointer.charAt(pointer.length()) == '/');
+			});
+		}
+		deferredEdits.add(edit);
+	}
+
+	private static boolean hasIndex(PointerPath path) {
+		for (int i = 0; i < path.depth(); i++) {
+			if (path.isIndex(i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean removesElements(PointerPath path) {
+		int last = path.depth() - 1;
+		return last >= 0 && (path.isIndex(last) || path.isWildcard(last));
+	}
+
+	/**
+	 * Applies the deferred edits in the order they were recorded and returns the
+	 * resulting root. Runs of property edits are applied in a single traversal,
+	 * see {@link #setProperties(JsonNode, List, int)}; a run ends before any
+	 * other edit and before an edit of a property that an edit of the run sets
+	 * or walks through, as the traversal applies the edits of a property before
+	 * the edits below it.
+	 */
+	private ObjectNode resolvedRoot() {
+		if (deferredEdits != null && !deferredEdits.isEmpty()) {
+			List<DeferredEdit> run = new ArrayList<>();
+			Set<String> runPointers = new HashSet<>();
+			for (DeferredEdit edit : deferredEdits) {
+				PointerPath path = edit.path();
+				boolean setsProperty = edit.property() != null && !path.isRoot() && !path.hasWildcard();
+				if (!setsProperty || runPointers.contains(path.toString())) {
+					setProperties(run);
+					run.clear();
+					runPointers.clear();
+				}
+				if (setsProperty) {
+					run.add(edit);
+					String pointer = path.toString();
+					for (int slash = pointer.indexOf('/', 1); slash > 0; slash = pointer.indexOf('/', slash + 1)) {
+						runPointers.add(pointer.substring(0, slash));
+					}
+					runPointers.add(pointer);
+				} else {
+					edit.edit().run();
+				}
+			}
+			setProperties(run);
+			deferredEdits.clear();
+		}
+		return root;
+	}
+
+	private void setProperties(List<DeferredEdit> edits) {
+		if (edits.size() == 1) {
+			edits.get(0).edit().run();
+		} else if (!edits.isEmpty()) {
+			setProperties(writableRoot(), edits, 0);
+		}
+	}
+
+	/**
+	 * Sets the properties of the given edits, whose paths all lead through the
+	 * given writable node at the given depth. The node of every further shared
+	 * segment is looked up or created once for all edits below it, after the edit
+	 * of that segment itself.
+	 */
+	private void setProperties(JsonNode node, List<DeferredEdit> edits, int position) {
+		Map<String, List<DeferredEdit>> bySegment = new LinkedHashMap<>();
+		for (DeferredEdit edit : edits) {
+			bySegment.computeIfAbsent(edit.path().segment(position), segment -> new ArrayList<>(1)).add(edit);
+		}
+		for (List<DeferredEdit> group : bySegment.values()) {
+			List<DeferredEdit> below = new ArrayList<>(group.size());
+			for (DeferredEdit edit : group) {
+				if (edit.path().depth() == position + 1) {
+					setChild(node, edit.path(), edit.property().value());
+				} else {
+					below.add(edit);
+				}
+			}
+			if (!below.isEmpty()) {
+				// the first edit creates a missing node, as it would on its own
+				JsonNode child = getOrCreateChild(node, below.get(0).path(), position);
+				setProperties(child, below, position + 1);
+			}
+		}
 	}
 
 	/**
@@ -250,38 +1162,459 @@ public class JsonMother {
 	 *         JSON structure
 	 */
 	public String build() {
-		return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+		return build(JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Builds the final JSON string representation of the modified JSON structure
+	 * using the given layout.
+	 *
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 * @return a JSON string representing the current state of the JSON structure
+	 */
+	public String build(JsonLayout layout) {
+		if (buildCache != null && fingerprint != null) {
+			return buildCache.get(fingerprint, "string:" + layout, () -> write(layout));
+		}
+		return write(layout);
+	}
+
+	private String write(JsonLayout layout) {
+		var recording = BuildRecording.start();
+		String json = factory.writer(layout).writeValueAsString(resolvedRoot());
+		if (recording.shouldRecord()) {
+			record(recording, layout, MotherBuildEvent.utf8Length(json));
+		}
+		return json;
+	}
+
+	/**
+	 * Builds the pretty-printed JSON as UTF-8 encoded bytes, without creating an
+	 * intermediate String.
+	 *
+	 * @return the UTF-8 encoded JSON
+	 */
+	public byte[] buildBytes() {
+		return buildBytes(JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Builds the JSON as UTF-8 encoded bytes using the given layout, without
+	 * creating an intermediate String.
+	 *
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 * @return the UTF-8 encoded JSON
+	 */
+	public byte[] buildBytes(JsonLayout layout) {
+		if (buildCache != null && fingerprint != null) {
+			return buildCache.get(fingerprint, "bytes:" + layout, () -> writeBytes(layout));
+		}
+		return writeBytes(layout);
+	}
+
+	private byte[] writeBytes(JsonLayout layout) {
+		var recording = BuildRecording.start();
+		byte[] json = factory.writer(layout).writeValueAsBytes(resolvedRoot());
+		if (recording.shouldRecord()) {
+			record(recording, layout, json.length);
+		}
+		return json;
+	}
+
+	/**
+	 * Writes the JSON directly in a binary JSON-family format, without an
+	 * intermediate textual representation.
+	 * <p>
+	 * Requires the Jackson dataformat module of the format on the classpath.
+	 * Values set as objects are serialized with the default configuration of that
+	 * format rather than the ObjectMapper of the factory.
+	 * </p>
+	 *
+	 * @param format
+	 *            the binary format, e.g. {@link BinaryFormat#SMILE} or
+	 *            {@link BinaryFormat#CBOR}
+	 * @return the encoded document
+	 * @throws IllegalStateException
+	 *             if the dataformat module of the format is not on the classpath
+	 */
+	public byte[] buildBinary(BinaryFormat format) {
+		if (buildCache != null && fingerprint != null) {
+			return buildCache.get(fingerprint, "binary:" + format, () -> writeBinary(format));
+		}
+		return writeBinary(format);
+	}
+
+	private byte[] writeBinary(BinaryFormat format) {
+		var recording = BuildRecording.start();
+		byte[] document = factory.writer(format).writeValueAsBytes(resolvedRoot());
+		if (recording.shouldRecord()) {
+			record(recording, format, document.length);
+		}
+		return document;
+	}
+
+	/**
+	 * Writes the JSON in a binary JSON-family format to the given stream. The
+	 * stream is flushed but not closed.
+	 *
+	 * @param outputStream
+	 *            the stream to write the encoded document to
+	 * @param format
+	 *            the binary format
+	 * @throws IllegalStateException
+	 *             if the dataformat module of the format is not on the classpath
+	 * @see #buildBinary(BinaryFormat)
+	 */
+	public void buildBinaryTo(OutputStream outputStream, BinaryFormat format) {
+		writeTo(outputStream, factory.writer(format), format);
+	}
+
+	/**
+	 * Writes the pretty-printed JSON as UTF-8 to the given stream. The stream is
+	 * flushed but not closed.
+	 *
+	 * @param outputStream
+	 *            the stream to write to
+	 */
+	public void buildTo(OutputStream outputStream) {
+		buildTo(outputStream, JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Writes the JSON as UTF-8 to the given stream using the given layout. The
+	 * stream is flushed but not closed.
+	 *
+	 * @param outputStream
+	 *            the stream to write to
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 */
+	public void buildTo(OutputStream outputStream, JsonLayout layout) {
+		writeTo(outputStream, factory.writer(layout), layout);
+	}
+
+	/**
+	 * Writes the pretty-printed JSON to the given writer. The writer is flushed
+	 * but not closed.
+	 *
+	 * @param writer
+	 *            the writer to write to
+	 */
+	public void buildTo(Writer writer) {
+		buildTo(writer, JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Writes the JSON to the given writer using the given layout. The writer is
+	 * flushed but not closed.
+	 *
+	 * @param writer
+	 *            the writer to write to
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 */
+	public void buildTo(Writer writer, JsonLayout layout) {
+		var recording = BuildRecording.start();
+		if (!recording.isEnabled()) {
+			factory.writer(layout).writeValue(writer, resolvedRoot());
+			return;
+		}
+		var countingWriter = new CountingWriter(writer);
+		factory.writer(layout).writeValue(countingWriter, resolvedRoot());
+		if (recording.shouldRecord()) {
+			record(recording, layout, countingWriter.count());
+		}
+	}
+
+	/**
+	 * Writes the pretty-printed JSON as UTF-8 to the given file, replacing any
+	 * existing content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 */
+	public void buildTo(Path path) {
+		buildTo(path, JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Writes the JSON as UTF-8 to the given file using the given layout,
+	 * replacing any existing content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 */
+	public void buildTo(Path path, JsonLayout layout) {
+		var recording = BuildRecording.start();
+		factory.writer(layout).writeValue(path, resolvedRoot());
+		if (recording.shouldRecord()) {
+			try {
+				record(recording, layout, Files.size(path));
+			} catch (IOException e) {
+				throw new RuntimeException("Failed to determine the size of: " + path, e);
+			}
+		}
+	}
+
+	private void writeTo(OutputStream outputStream, ObjectWriter writer, Enum<?> format) {
+		var recording = BuildRecording.start();
+		if (!recording.isEnabled()) {
+			writer.writeValue(outputStream, resolvedRoot());
+			return;
+		}
+		var countingStream = new CountingOutputStream(outputStream);
+		writer.writeValue(countingStream, resolvedRoot());
+		if (recording.shouldRecord()) {
+			record(recording, format, countingStream.count());
+		}
+	}
+
+	private void record(BuildRecording recording, Enum<?> format, long size) {
+		recording.record(MOTHER, resource, format.name(), editCount, size);
 	}
 
 	private void setRootValue(@Nullable Object value) {
 		if (value instanceof JsonNode jsonNode) {
 			if (jsonNode.isObject()) {
-				root.removeAll();
-				root.setAll((ObjectNode) jsonNode);
+				ObjectNode writableRoot = writableRoot();
+				writableRoot.removeAll();
+				writableRoot.setAll((ObjectNode) jsonNode);
 			}
 		} else {
-			root.putPOJO("_value", value);
+			writableRoot().putPOJO("_value", value);
 		}
 	}
 
-	private boolean isNumeric(String str) {
-		if (str == null || str.isEmpty()) {
+	private ObjectNode writableRoot() {
+		if (!isOwned(root)) {
+			root = own(factory.objectMapper().createObjectNode().setAll(root));
+		}
+		return root;
+	}
+
+	/**
+	 * Returns a node that can be modified in place for the given child of an
+	 * already writable parent, copying the child when it is shared with another
+	 * mother.
+	 */
+	private JsonNode writable(JsonNode parentNode, PointerPath path, int position, JsonNode node) {
+		return writable(parentNode, path.segment(position), parentNode.isArray() ? path.index(position) : -1, node);
+	}
+
+	private JsonNode writable(JsonNode parentNode, String name, int index, JsonNode node) {
+		if (isOwned(node) || !node.isContainer()) {
+			return node;
+		}
+		JsonNode copy;
+		if (node instanceof ObjectNode objectNode) {
+			copy = own(factory.objectMapper().createObjectNode().setAll(objectNode));
+		} else {
+			var arrayNode = (ArrayNode) node;
+			copy = own(factory.objectMapper().getNodeFactory().arrayNode(arrayNode.size()).addAll(arrayNode));
+		}
+		if (parentNode instanceof ObjectNode objectNode) {
+			objectNode.set(name, copy);
+		} else if (parentNode instanceof ArrayNode arrayNode) {
+			arrayNode.set(index, copy);
+		}
+		return copy;
+	}
+
+	private @Nullable JsonNode nodeAt(PointerPath path, int depth) {
+		JsonNode node = root;
+		for (int i = 0; i < depth && node != null; i++) {
+			node = node.isArray() && !path.isIndex(i) ? null : child(node, path, i);
+		}
+		return node;
+	}
+
+	private static @Nullable JsonNode child(JsonNode parentNode, PointerPath path, int position) {
+		return parentNode.isArray() ? parentNode.get(path.index(position)) : parentNode.get(path.segment(position));
+	}
+
+	private static boolean isContainer(@Nullable JsonNode node) {
+		return node != null && node.isContainer();
+	}
+
+	private boolean isOwned(JsonNode node) {
+		if (sharedNodes != null && sharedNodes.contains(node)) {
 			return false;
 		}
-		for (char c : str.toCharArray()) {
-			if (!Character.isDigit(c)) {
-				return false;
+		return ownedNodes == null || ownedNodes.contains(node);
+	}
+
+	/**
+	 * Marks the given node and all containers below it as shared.
+	 */
+	private JsonNode share(JsonNode node) {
+		if (sharedNodes == null) {
+			sharedNodes = newIdentitySet();
+		}
+		sharedNodes.add(node);
+		for (JsonNode child : node) {
+			if (child.isContainer()) {
+				share(child);
 			}
 		}
-		return true;
+		return node;
+	}
+
+	private <T extends JsonNode> T own(T node) {
+		if (ownedNodes != null) {
+			ownedNodes.add(node);
+		}
+		return node;
 	}
 
-	private JsonNode convertValue(Object value) {
+	private static Set<JsonNode> newIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	private JsonNode convertValue(@Nullable Object value) {
 		if (value == null) {
-			return objectMapper.nullNode();
+			return factory.objectMapper().nullNode();
 		} else if (value instanceof JsonNode jsonNode) {
 			return jsonNode;
+		} else if (value instanceof LazyArray) {
+			// converting would create all elements
+			return factory.objectMapper().getNodeFactory().pojoNode(value);
+		}
+		return factory.objectMapper().valueToTree(value);
+	}
+
+	private static void requireCount(long count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Count must not be negative: " + count);
+		}
+	}
+
+	private JsonMother edit(String operation, PointerPath path, boolean removal, Runnable edit,
+			@Nullable Object... arguments) {
+		recordEdit(operation, path, arguments);
+		if (deferredEdits != null) {
+			defer(deferredEdits, new DeferredEdit(path, removal && removesElements(path), edit, null));
+		} else {
+			edit.run();
+		}
+		return this;
+	}
+
+	/**
+	 * Applies or defers an edit that sets the property at the path to the value.
+	 */
+	private JsonMother propertyEdit(String operation, PointerPath path, @Nullable Object value,
+			@Nullable Object... arguments) {
+		recordEdit(operation, path, arguments);
+		if (deferredEdits != null) {
+			defer(deferredEdits,
+					new DeferredEdit(path, false, () -> setProperty(path, value), new PropertyValue(value)));
+		} else {
+			setProperty(path, value);
+		}
+		return this;
+	}
+
+	private void recordEdit(String operation, PointerPath path, @Nullable Object... arguments) {
+		editCount++;
+		MotherMetrics.instance().edited(MOTHER, operation);
+		if (fingerprint != null) {
+			fingerprint.add(operation + " " + path, arguments);
+		}
+	}
+
+	/**
+	 * @param removesElements
+	 *            whether the edit removes array elements, shifting the index of
+	 *            the following elements
+	 * @param property
+	 *            the value the edit sets the property at the path to, {@code null}
+	 *            for any other edit
+	 */
+	private record DeferredEdit(PointerPath path, boolean removesElements, Runnable edit,
+			@Nullable PropertyValue property) {
+	}
+
+	private record PropertyValue(@Nullable Object value) {
+	}
+
+	/**
+	 * An array whose elements are created one at a time while it is serialized.
+	 */
+	private static final class LazyArray extends JacksonSerializable.Base {
+		private final long count;
+		private final LongFunction<@Nullable Object> elementFactory;
+
+		private LazyArray(long count, LongFunction<@Nullable Object> elementFactory) {
+			this.count = count;
+			this.elementFactory = elementFactory;
+		}
+
+		@Override
+		public void serialize(JsonGenerator gen, SerializationContext ctxt) {
+			gen.writeStartArray(this, count <= Integer.MAX_VALUE ? (int) count : -1);
+			for (long i = 0; i < count; i++) {
+				ctxt.writeValue(gen, elementFactory.apply(i));
+			}
+			gen.writeEndArray();
+		}
+
+		@Override
+		public void serializeWithType(JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+			serialize(gen, ctxt);
+		}
+	}
+
+	/**
+	 * The values for a wildcard edit; a constant value is converted to a node only
+	 * once.
+	 */
+	private final class Values {
+		private final Function<JsonNode, @Nullable Object> function;
+		private final boolean constant;
+		private @Nullable JsonNode converted;
+
+		private Values(Function<JsonNode, @Nullable Object> function, boolean constant) {
+			this.function = function;
+			this.constant = constant;
+		}
+
+		Function<JsonNode, @Nullable Object> function() {
+			return function;
+		}
+
+		JsonNode convert(JsonNode element) {
+			if (!constant) {
+				return convertValue(function.apply(element));
+			}
+			if (converted == null) {
+				converted = convertValue(function.apply(element));
+			}
+			return converted.isContainer() ? converted.deepCopy() : converted;
+		}
+
+		/**
+		 * Sets the value for the element as a property of the parent. Nodes are set
+		 * as nodes, like {@code withProperty} does, so that later edits can walk
+		 * into them; other values are serialized when building.
+		 */
+		void put(ObjectNode parent, String name, JsonNode element) {
+			if (converted != null) {
+				parent.set(name, converted.isContainer() ? converted.deepCopy() : converted);
+				return;
+			}
+			Object value = function.apply(element);
+			if (!(value instanceof JsonNode node)) {
+				parent.putPOJO(name, value);
+			} else if (constant) {
+				converted = node;
+				parent.set(name, node.isContainer() ? node.deepCopy() : node);
+			} else {
+				parent.set(name, node);
+			}
 		}
-		return objectMapper.valueToTree(value);
 	}
 }
@@ -0,0 +1,316 @@
+package io.jonasg.mother.json;
+
+import io.jonasg.mother.core.CountingInputStream;
+import io.jonasg.mother.core.LoadRecording;
+import io.jonasg.mother.core.MotherBuildEvent;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates {@link JsonMother} instances that share a single, thread-safe
+ * {@link ObjectMapper} together with pre-built writers for pretty and compact
+ * output.
+ * <p>
+ * {@link JsonMother#of(String)} uses the {@link #defaultFactory() default
+ * factory}. Use {@link #of(ObjectMapper)} to plug in a preconfigured
+ * ObjectMapper, e.g. the one used in production, so that tests use the same
+ * configuration and serializer caches.
+ * </p>
+ *
+ * <pre>
+ * var factory = JsonMotherFactory.of(productionObjectMapper);
+ * String json = factory.of("data/book.json")
+ * 		.withProperty("/author/name", "Ernest Hemingway")
+ * 		.build();
+ * </pre>
+ */
+public final class JsonMotherFactory {
+
+	private static final JsonMotherFactory DEFAULT = new JsonMotherFactory(new ObjectMapper());
+
+	// reported as resource of mothers that are not loaded from a file
+	private static final String BYTES_SOURCE = "<bytes>";
+	private static final String STREAM_SOURCE = "<stream>";
+	private static final String STRING_SOURCE = "<string>";
+
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter prettyWriter;
+	private final ObjectWriter compactWriter;
+	private final Map<ClassLoader, JsonTemplateCache> templateCaches = Collections
+			.synchronizedMap(new WeakHashMap<>());
+	private final Map<BinaryFormat, ObjectWriter> binaryWriters = new ConcurrentHashMap<>();
+
+	private JsonMotherFactory(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		// targets handed in by callers are flushed but left open
+		this.prettyWriter = objectMapper.writerWithDefaultPrettyPrinter()
+				.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+		this.compactWriter = objectMapper.writer()
+				.without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+	}
+
+	/**
+	 * @return the factory used by the static {@link JsonMother} factory methods
+	 */
+	public static JsonMotherFactory defaultFactory() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Creates a new factory that reads, converts and writes JSON using the given
+	 * ObjectMapper.
+	 *
+	 * @param objectMapper
+	 *            the ObjectMapper to use for all mothers created by this factory
+	 * @return a new JsonMotherFactory
+	 */
+	public static JsonMotherFactory of(ObjectMapper objectMapper) {
+		return new JsonMotherFactory(objectMapper);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by loading a JSON file from the classpath.
+	 *
+	 * @param filePath
+	 *            the path to the JSON file in the classpath (e.g.,
+	 *            "data/sample.json")
+	 * @return a new JsonMother instance initialized with the content of the
+	 *         specified JSON file
+	 * @throws IllegalArgumentException
+	 *             if the file cannot be found, or if the content is not a JSON
+	 *             object
+	 * @throws RuntimeException
+	 *             if there is an error processing the JSON content
+	 */
+	public JsonMother of(String filePath) {
+		return of(JsonMother.class.getClassLoader(), filePath);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by loading a JSON file relative to the
+	 * given class's package directory on the classpath.
+	 *
+	 * @param clazz
+	 *            the class to use as a reference point for resolving the file path
+	 * @param fileName
+	 *            the name of the JSON file (e.g., "book.json"); will be resolved
+	 *            relative to the package of the given class
+	 * @return a new JsonMother instance initialized with the content of the
+	 *         specified JSON file
+	 * @throws IllegalArgumentException
+	 *             if the file cannot be found, or if the content is not a JSON
+	 *             object
+	 * @throws RuntimeException
+	 *             if there is an error processing the JSON content
+	 */
+	public JsonMother of(Class<?> clazz, String fileName) {
+		if (fileName.contains("/")) {
+			throw new IllegalArgumentException(
+					"When Loading file relative to class, the file name must not contain path separators: " + fileName);
+		}
+		String packagePath = clazz.getPackageName().replace('.', '/');
+		String filePath = packagePath + "/" + fileName;
+		return of(clazz.getClassLoader(), filePath);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing a JSON file on the file system.
+	 * <p>
+	 * The file is memory-mapped and parsed straight from the mapping, it is
+	 * neither copied onto the heap as a whole nor cached.
+	 * </p>
+	 *
+	 * @param path
+	 *            the path to the JSON file (e.g., "target/fixtures/large.json")
+	 * @return a new JsonMother instance initialized with the content of the
+	 *         specified JSON file
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 * @throws RuntimeException
+	 *             if the file can not be read or parsed
+	 */
+	public JsonMother of(Path path) {
+		String resource = path.toString();
+		var recording = LoadRecording.start(JsonMother.MOTHER, resource);
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long parseStart = System.nanoTime();
+			JsonNode node;
+			if (size <= Integer.MAX_VALUE) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+				node = objectMapper.readTree(new ByteBufferBackedInputStream(buffer));
+			} else {
+				// a single mapping is limited to 2 GB
+				node = objectMapper.readTree(Channels.newInputStream(channel));
+			}
+			recording.parsed(size, System.nanoTime() - parseStart);
+			recording.finish();
+			return new JsonMother(toRoot(node, resource), this, resource);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to load JSON from: " + path, e);
+		}
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the given UTF-8 encoded JSON.
+	 *
+	 * @param json
+	 *            the JSON document
+	 * @return a new JsonMother instance initialized with the given content
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public JsonMother of(byte[] json) {
+		var recording = LoadRecording.start(JsonMother.MOTHER, BYTES_SOURCE);
+		long parseStart = System.nanoTime();
+		JsonNode node = objectMapper.readTree(json);
+		recording.parsed(json.length, System.nanoTime() - parseStart);
+		recording.finish();
+		return new JsonMother(toRoot(node, BYTES_SOURCE), this, BYTES_SOURCE);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the JSON read from the given
+	 * stream. The stream is not closed.
+	 *
+	 * @param inputStream
+	 *            the stream to read the JSON document from
+	 * @return a new JsonMother instance initialized with the content of the stream
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public JsonMother of(InputStream inputStream) {
+		var recording = LoadRecording.start(JsonMother.MOTHER, STREAM_SOURCE);
+		var countingStream = new CountingInputStream(inputStream);
+		long parseStart = System.nanoTime();
+		// closing the counting stream leaves the caller's stream open
+		JsonNode node = objectMapper.readTree(countingStream);
+		recording.parsed(countingStream.count(), System.nanoTime() - parseStart);
+		recording.finish();
+		return new JsonMother(toRoot(node, STREAM_SOURCE), this, STREAM_SOURCE);
+	}
+
+	/**
+	 * Creates a new JsonMother instance by parsing the given JSON document.
+	 *
+	 * @param json
+	 *            the JSON document, e.g. <code>{"title": "The Great Gatsby"}</code>
+	 * @return a new JsonMother instance initialized with the given content
+	 * @throws IllegalArgumentException
+	 *             if the content is not a JSON object
+	 */
+	public JsonMother ofJson(String json) {
+		var recording = LoadRecording.start(JsonMother.MOTHER, STRING_SOURCE);
+		long parseStart = System.nanoTime();
+		JsonNode node = objectMapper.readTree(json);
+		recording.parsed(MotherBuildEvent.utf8Length(json), System.nanoTime() - parseStart);
+		recording.finish();
+		return new JsonMother(toRoot(node, STRING_SOURCE), this, STRING_SOURCE);
+	}
+
+	/**
+	 * Creates a StreamingJsonMother for a JSON file on the classpath.
+	 *
+	 * @param filePath
+	 *            the path to the JSON file in the classpath (e.g.,
+	 *            "data/export.json")
+	 * @return a new StreamingJsonMother for the specified JSON file
+	 * @see JsonMother#streaming(String)
+	 */
+	public StreamingJsonMother streaming(String filePath) {
+		return StreamingJsonMother.ofResource(this, JsonMother.class.getClassLoader(), filePath);
+	}
+
+	/**
+	 * Creates a StreamingJsonMother for a JSON file on the file system.
+	 *
+	 * @param path
+	 *            the path to the JSON file
+	 * @return a new StreamingJsonMother for the specified JSON file
+	 * @see JsonMother#streaming(Path)
+	 */
+	public StreamingJsonMother streaming(Path path) {
+		return StreamingJsonMother.ofPath(this, path);
+	}
+
+	/**
+	 * Returns the cache holding the parsed JSON files loaded by this factory
+	 * through the given ClassLoader.
+	 *
+	 * @param classLoader
+	 *            the ClassLoader the JSON files are loaded from
+	 * @return the template cache for the given ClassLoader
+	 */
+	public JsonTemplateCache templateCache(ClassLoader classLoader) {
+		return templateCaches.computeIfAbsent(classLoader,
+				cl -> new JsonTemplateCache(JsonTemplateCache.DEFAULT_MAXIMUM_SIZE));
+	}
+
+	/**
+	 * @return the ObjectMapper used by this factory
+	 */
+	public ObjectMapper objectMapper() {
+		return objectMapper;
+	}
+
+	ObjectWriter writer(JsonLayout layout) {
+		return layout == JsonLayout.PRETTY ? prettyWriter : compactWriter;
+	}
+
+	ObjectWriter writer(BinaryFormat format) {
+		return binaryWriters.computeIfAbsent(format, f -> {
+			try {
+				return f.createMapper().writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+			} catch (NoClassDefFoundError e) {
+				throw new IllegalStateException(
+						f + " output requires tools.jackson.dataformat:" + f.artifactId() + " on the classpath", e);
+			}
+		});
+	}
+
+	private JsonMother of(ClassLoader classLoader, String filePath) {
+		var recording = LoadRecording.start(JsonMother.MOTHER, filePath);
+		ObjectNode root = templateCache(classLoader).get(filePath, path -> readTemplate(classLoader, path, recording));
+		recording.finish();
+		return new JsonMother(root, this, filePath, List.of(classLoader, filePath));
+	}
+
+	private static ObjectNode toRoot(JsonNode node, String source) {
+		if (node instanceof ObjectNode root) {
+			return root;
+		}
+		throw new IllegalArgumentException("The JSON content is not an object: " + source);
+	}
+
+	private ObjectNode readTemplate(ClassLoader classLoader, String filePath, LoadRecording recording) {
+		try (var is = classLoader.getResourceAsStream(filePath)) {
+			if (is == null) {
+				throw new IllegalArgumentException("Resource not found: " + filePath);
+			}
+			byte[] content = is.readAllBytes();
+			long parseStart = System.nanoTime();
+			JsonNode node = objectMapper.readTree(content);
+			recording.parsed(content.length, System.nanoTime() - parseStart);
+			return toRoot(node, filePath);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to load JSON from: " + filePath, e);
+		}
+	}
+}
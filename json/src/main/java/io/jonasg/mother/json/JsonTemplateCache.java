@@ -0,0 +1,107 @@
+package io.jonasg.mother.json;
+
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed JSON templates, one per ClassLoader.
+ * <p>
+ * Every resource is read and parsed once and kept as a read-only tree. The
+ * cached tree is never handed out, every caller receives its own deep copy
+ * which it is free to modify. When the cache is full the least recently used
+ * template is evicted.
+ * </p>
+ */
+public final class JsonTemplateCache {
+
+	/**
+	 * The default maximum number of templates kept per ClassLoader.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 128;
+
+	private final Map<String, ObjectNode> templates;
+	private final int maximumSize;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	JsonTemplateCache(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+		}
+		this.maximumSize = maximumSize;
+		this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ObjectNode> eldest) {
+				return size() > JsonTemplateCache.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns a deep copy of the template for the given resource, parsing it with
+	 * the given loader when it is not cached yet.
+	 */
+	ObjectNode get(String filePath, Function<String, ObjectNode> loader) {
+		ObjectNode template;
+		synchronized (templates) {
+			template = templates.get(filePath);
+		}
+		if (template != null) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			template = loader.apply(filePath);
+			synchronized (templates) {
+				templates.put(filePath, template);
+			}
+		}
+		return template.deepCopy();
+	}
+
+	/**
+	 * @return the number of lookups that were served from the cache
+	 */
+	public long hitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of lookups that required the resource to be read and
+	 *         parsed
+	 */
+	public long missCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the number of templates currently cached
+	 */
+	public int size() {
+		synchronized (templates) {
+			return templates.size();
+		}
+	}
+
+	/**
+	 * @return the maximum number of templates kept before the least recently used
+	 *         one is evicted
+	 */
+	public int maximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Removes all cached templates and resets the hit and miss counters.
+	 */
+	public void clear() {
+		synchronized (templates) {
+			templates.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+}
@@ -0,0 +1,187 @@
+package io.jonasg.mother.json;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pre-compiled <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+ * Pointer</a>.
+ * <p>
+ * The pointer is parsed once into its unescaped segments, each segment knowing
+ * whether it can be used as an array index. Compile pointers that are used
+ * repeatedly once and pass them to
+ * {@link JsonMother#withProperty(PointerPath, Object)} or
+ * {@link JsonMother#withRemovedProperty(PointerPath)}.
+ * </p>
+ *
+ * <pre>
+ * static final PointerPath AUTHOR_NAME = JsonMother.path("/author/name");
+ *
+ * String json = JsonMother.of("data/book.json")
+ * 		.withProperty(AUTHOR_NAME, "Ernest Hemingway")
+ * 		.build();
+ * </pre>
+ */
+public final class PointerPath {
+
+	static final int NO_INDEX = -1;
+
+	private static final String WILDCARD = "*";
+
+	private final String pointer;
+	private final String[] segments;
+	private final int[] indexes;
+	private final boolean hasWildcard;
+
+	private PointerPath(String pointer, String[] segments, int[] indexes) {
+		this.pointer = pointer;
+		this.segments = segments;
+		this.indexes = indexes;
+		this.hasWildcard = List.of(segments).contains(WILDCARD);
+	}
+
+	/**
+	 * Compiles the given JSON Pointer.
+	 *
+	 * @param jsonPointer
+	 *            the JSON Pointer to compile (e.g., "/author/name" or
+	 *            "/genres/0/type"), the empty string denotes the root
+	 * @return the compiled pointer
+	 * @throws IllegalArgumentException
+	 *             if the pointer is neither empty nor starts with '/'
+	 */
+	public static PointerPath compile(String jsonPointer) {
+		if (jsonPointer.isEmpty()) {
+			return new PointerPath(jsonPointer, new String[0], new int[0]);
+		}
+		if (jsonPointer.charAt(0) != '/') {
+			throw new IllegalArgumentException("Invalid JSON Pointer, must start with '/': " + jsonPointer);
+		}
+
+		List<String> parts = new ArrayList<>();
+		int start = 1;
+		int end;
+		while ((end = jsonPointer.indexOf('/', start)) >= 0) {
+			parts.add(unescape(jsonPointer.substring(start, end)));
+			start = end + 1;
+		}
+		parts.add(unescape(jsonPointer.substring(start)));
+
+		String[] segments = parts.toArray(new String[0]);
+		int[] indexes = new int[segments.length];
+		for (int i = 0; i < segments.length; i++) {
+			indexes[i] = toIndex(segments[i]);
+		}
+		return new PointerPath(jsonPointer, segments, indexes);
+	}
+
+	/**
+	 * @return {@code true} if this pointer denotes the root of the document
+	 */
+	public boolean isRoot() {
+		return segments.length == 0;
+	}
+
+	/**
+	 * @return the number of segments of this pointer
+	 */
+	public int depth() {
+		return segments.length;
+	}
+
+	/**
+	 * @param position
+	 *            the 0-based position of the segment
+	 * @return the unescaped segment at the given position
+	 */
+	public String segment(int position) {
+		return segments[position];
+	}
+
+	/**
+	 * @param position
+	 *            the 0-based position of the segment
+	 * @return {@code true} if the segment at the given position is a valid array
+	 *         index
+	 */
+	public boolean isIndex(int position) {
+		return indexes[position] != NO_INDEX;
+	}
+
+	/**
+	 * @param position
+	 *            the 0-based position of the segment
+	 * @return {@code true} if the segment at the given position is {@code *},
+	 *         which matches every element of an array or every property of an
+	 *         object in {@link JsonMother#withPropertyAll(PointerPath, Object)}
+	 *         and {@link JsonMother#withRemovedPropertyAll(PointerPath)}
+	 */
+	public boolean isWildcard(int position) {
+		return WILDCARD.equals(segments[position]);
+	}
+
+	/**
+	 * @return {@code true} if any of the segments is a wildcard
+	 */
+	public boolean hasWildcard() {
+		return hasWildcard;
+	}
+
+	/**
+	 * @param position
+	 *            the 0-based position of the segment
+	 * @return the segment at the given position as an array index
+	 * @throws IllegalArgumentException
+	 *             if the segment is not a valid array index
+	 */
+	public int index(int position) {
+		int index = indexes[position];
+		if (index == NO_INDEX) {
+			throw new IllegalArgumentException("Invalid array index: " + segments[position]);
+		}
+		return index;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		return o instanceof PointerPath other && pointer.equals(other.pointer);
+	}
+
+	@Override
+	public int hashCode() {
+		return pointer.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return pointer;
+	}
+
+	private static String unescape(String segment) {
+		if (segment.indexOf('~') < 0) {
+			return segment;
+		}
+		return segment.replace("~1", "/").replace("~0", "~");
+	}
+
+	/**
+	 * @return the segment as an array index, {@link #NO_INDEX} if it is not a
+	 *         valid array index
+	 */
+	static int toIndex(String segment) {
+		if (segment.isEmpty() || segment.length() > 10) {
+			return NO_INDEX;
+		}
+		long index = 0;
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c < '0' || c > '9') {
+				return NO_INDEX;
+			}
+			index = index * 10 + (c - '0');
+		}
+		return index > Integer.MAX_VALUE ? NO_INDEX : (int) index;
+	}
+}
@@ -0,0 +1,446 @@
+package io.jonasg.mother.json;
+
+import io.jonasg.mother.core.BuildRecording;
+import io.jonasg.mother.core.CountingOutputStream;
+import io.jonasg.mother.core.MotherMetrics;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonEncoding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link JsonMother} variant for very large JSON files that never builds a
+ * tree of the document.
+ * <p>
+ * Edits are only recorded. When building, the source is read token by token
+ * and copied straight to the output while the recorded edits are applied on
+ * the fly, so memory use stays constant regardless of the size of the input.
+ * Subtrees that are not affected by any edit are copied as is.
+ * </p>
+ * <p>
+ * Unlike {@link JsonMother}, all JSON Pointers refer to positions in the
+ * original document: removing {@code /items/0} does not shift the index of the
+ * other elements for subsequent edits. Setting the same pointer twice keeps the
+ * last value, and edits below a value that was set as a whole are applied to
+ * that value the way {@link JsonMother} applies them.
+ * </p>
+ *
+ * <pre>
+ * JsonMother.streaming(Path.of("target/export.json"))
+ * 		.withProperty("/meta/exportedBy", "performance-test")
+ * 		.withRemovedProperty("/meta/checksum")
+ * 		.buildTo(Path.of("target/export-patched.json"), JsonLayout.COMPACT);
+ * </pre>
+ */
+public final class StreamingJsonMother {
+
+	private static final String MOTHER = "StreamingJsonMother";
+
+	/**
+	 * The property holding a value that was set as a whole while it is edited by
+	 * a JsonMother.
+	 */
+	private static final String SET_VALUE = "value";
+
+	private final JsonMotherFactory factory;
+	private final String source;
+	private final InputOpener opener;
+	private final Edit edits = new Edit();
+	private int editCount;
+
+	StreamingJsonMother(JsonMotherFactory factory, String source, InputOpener opener) {
+		this.factory = factory;
+		this.source = source;
+		this.opener = opener;
+	}
+
+	static StreamingJsonMother ofResource(JsonMotherFactory factory, ClassLoader classLoader, String filePath) {
+		return new StreamingJsonMother(factory, filePath, () -> {
+			InputStream is = classLoader.getResourceAsStream(filePath);
+			if (is == null) {
+				throw new IllegalArgumentException("Resource not found: " + filePath);
+			}
+			return is;
+		});
+	}
+
+	static StreamingJsonMother ofPath(JsonMotherFactory factory, Path path) {
+		return new StreamingJsonMother(factory, path.toString(), () -> Files.newInputStream(path));
+	}
+
+	/**
+	 * Sets a property at the specified JSON Pointer path to the given value while
+	 * streaming. Missing intermediate objects and arrays are created.
+	 *
+	 * @param jsonPointer
+	 *            the path to the property to set, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/author/name" or "/genres/0/type")
+	 * @param value
+	 *            the value to set at the specified path
+	 * @return the current StreamingJsonMother instance for method chaining
+	 */
+	public StreamingJsonMother withProperty(String jsonPointer, @Nullable Object value) {
+		return withProperty(PointerPath.compile(jsonPointer), value);
+	}
+
+	/**
+	 * Sets a property at the specified pre-compiled JSON Pointer path to the given
+	 * value while streaming.
+	 *
+	 * @param path
+	 *            the compiled path to the property to set
+	 * @param value
+	 *            the value to set at the specified path
+	 * @return the current StreamingJsonMother instance for method chaining
+	 */
+	public StreamingJsonMother withProperty(PointerPath path, @Nullable Object value) {
+		Edit edit = edit(path, (mother, nested) -> mother.withProperty(nested, value));
+		MotherMetrics.instance().edited(MOTHER, "withProperty");
+		if (edit != null) {
+			edit.operation = Operation.SET;
+			edit.value = value;
+			edit.children.clear();
+		}
+		return this;
+	}
+
+	/**
+	 * Removes the property at the specified JSON Pointer path while streaming.
+	 *
+	 * @param jsonPointer
+	 *            the path to the property to remove, using
+	 *            <a href="https://tools.ietf.org/html/rfc6901">RFC 6901 JSON
+	 *            Pointer</a> notation (e.g., "/author/name" or "/genres/0/type")
+	 * @return the current StreamingJsonMother instance for method chaining
+	 */
+	public StreamingJsonMother withRemovedProperty(String jsonPointer) {
+		return withRemovedProperty(PointerPath.compile(jsonPointer));
+	}
+
+	/**
+	 * Removes the property at the specified pre-compiled JSON Pointer path while
+	 * streaming.
+	 *
+	 * @param path
+	 *            the compiled path to the property to remove
+	 * @return the current StreamingJsonMother instance for method chaining
+	 */
+	public StreamingJsonMother withRemovedProperty(PointerPath path) {
+		Edit edit = edit(path, JsonMother::withRemovedProperty);
+		MotherMetrics.instance().edited(MOTHER, "withRemovedProperty");
+		if (edit != null) {
+			edit.operation = Operation.REMOVE;
+			edit.value = null;
+			edit.children.clear();
+		}
+		return this;
+	}
+
+	/**
+	 * Streams the pretty-printed, modified JSON as UTF-8 to the given stream. The
+	 * stream is flushed but not closed.
+	 *
+	 * @param outputStream
+	 *            the stream to write to
+	 */
+	public void buildTo(OutputStream outputStream) {
+		buildTo(outputStream, JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Streams the modified JSON as UTF-8 to the given stream using the given
+	 * layout. The stream is flushed but not closed.
+	 *
+	 * @param outputStream
+	 *            the stream to write to
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 */
+	public void buildTo(OutputStream outputStream, JsonLayout layout) {
+		var recording = BuildRecording.start();
+		var countingStream = recording.isEnabled() ? new CountingOutputStream(outputStream) : null;
+		OutputStream target = countingStream != null ? countingStream : outputStream;
+		try (InputStream is = opener.open();
+				JsonParser parser = factory.objectMapper().createParser(is);
+				JsonGenerator generator = factory.writer(layout).createGenerator(target, JsonEncoding.UTF8)) {
+			if (parser.nextToken() == null) {
+				throw new IllegalArgumentException("No JSON content in: " + source);
+			}
+			copyValue(parser, generator, edits);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to stream JSON from: " + source, e);
+		}
+		if (countingStream != null && recording.shouldRecord()) {
+			recording.record(MOTHER, source, layout.name(), editCount, countingStream.count());
+		}
+	}
+
+	/**
+	 * Streams the pretty-printed, modified JSON as UTF-8 to the given file,
+	 * replacing any existing content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 */
+	public void buildTo(Path path) {
+		buildTo(path, JsonLayout.PRETTY);
+	}
+
+	/**
+	 * Streams the modified JSON as UTF-8 to the given file using the given layout,
+	 * replacing any existing content.
+	 *
+	 * @param path
+	 *            the file to write to
+	 * @param layout
+	 *            whether to pretty-print or write compact JSON
+	 */
+	public void buildTo(Path path, JsonLayout layout) {
+		try (OutputStream os = Files.newOutputStream(path)) {
+			buildTo(os, layout);
+		} catch (IOException e) {
+			throw new RuntimeException("Failed to write JSON to: " + path, e);
+		}
+	}
+
+	/**
+	 * @param nestedEdit
+	 *            applies the edit to a JsonMother holding a value that was set as
+	 *            a whole, given the path of the edit within that mother
+	 * @return the node of the edit tree for the path, {@code null} if the edit was
+	 *         applied to a value that was set as a whole
+	 */
+	private @Nullable Edit edit(PointerPath path, BiConsumer<JsonMother, PointerPath> nestedEdit) {
+		if (path.isRoot()) {
+			throw new IllegalArgumentException("The root of the JSON structure can not be replaced while streaming");
+		}
+		editCount++;
+		Edit edit = edits;
+		for (int i = 0; i < path.depth(); i++) {
+			if (edit.operation == Operation.SET) {
+				edit.value = editSetValue(edit.value, path, i, nestedEdit);
+				return null;
+			}
+			if (edit.operation == Operation.REMOVE) {
+				edit.operation = Operation.RECREATE;
+			}
+			edit = edit.children.computeIfAbsent(path.segment(i), segment -> new Edit());
+		}
+		return edit;
+	}
+
+	/**
+	 * Applies an edit below a value that was set as a whole to that value.
+	 *
+	 * @return the edited value
+	 */
+	private @Nullable JsonNode editSetValue(@Nullable Object value, PointerPath path, int position,
+			BiConsumer<JsonMother, PointerPath> nestedEdit) {
+		var pointer = new StringBuilder("/" + SET_VALUE);
+		for (int i = position; i < path.depth(); i++) {
+			pointer.append('/').append(path.segment(i).replace("~", "~0").replace("/", "~1"));
+		}
+		var mother = new JsonMother(factory.objectMapper().createObjectNode(), factory, source)
+				.withProperty("/" + SET_VALUE, value instanceof JsonNode jsonNode ? jsonNode.deepCopy() : value);
+		nestedEdit.accept(mother, PointerPath.compile(pointer.toString()));
+		return mother.tree().get(SET_VALUE);
+	}
+
+	private void copyValue(JsonParser parser, JsonGenerator generator, Edit edit) {
+		JsonToken token = parser.currentToken();
+		if (edit.children.isEmpty()) {
+			generator.copyCurrentStructure(parser);
+		} else if (token == JsonToken.START_OBJECT) {
+			copyObject(parser, generator, edit);
+		} else if (token == JsonToken.START_ARRAY) {
+			copyArray(parser, generator, edit);
+		} else if (token == JsonToken.VALUE_NULL) {
+			writeCreated(generator, edit, false, "");
+		} else {
+			// values can't hold children, edits below them are discarded
+			generator.copyCurrentStructure(parser);
+		}
+	}
+
+	private void copyObject(JsonParser parser, JsonGenerator generator, Edit edit) {
+		Set<String> seen = new HashSet<>();
+		generator.writeStartObject();
+		while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+			String name = parser.currentName();
+			parser.nextToken();
+			Edit child = edit.children.get(name);
+			if (child == null) {
+				generator.writeName(name);
+				generator.copyCurrentStructure(parser);
+				continue;
+			}
+			seen.add(name);
+			if (child.operation == Operation.REMOVE) {
+				parser.skipChildren();
+			} else if (child.operation == Operation.SET) {
+				parser.skipChildren();
+				generator.writeName(name);
+				writeValue(generator, child.value);
+			} else if (child.operation == Operation.RECREATE) {
+				parser.skipChildren();
+				generator.writeName(name);
+				writeCreated(generator, child, false, name);
+			} else {
+				generator.writeName(name);
+				copyValue(parser, generator, child);
+			}
+		}
+		for (Map.Entry<String, Edit> entry : edit.children.entrySet()) {
+			Edit child = entry.getValue();
+			if (!seen.contains(entry.getKey()) && child.operation != Operation.REMOVE) {
+				generator.writeName(entry.getKey());
+				writeCreated(generator, child, false, entry.getKey());
+			}
+		}
+		generator.writeEndObject();
+	}
+
+	private void copyArray(JsonParser parser, JsonGenerator generator, Edit edit) {
+		List<Map.Entry<Integer, Edit>> elements = elements(edit);
+		int next = 0;
+		int index = 0;
+		generator.writeStartArray();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			Edit child = null;
+			if (next < elements.size() && elements.get(next).getKey() == index) {
+				child = elements.get(next++).getValue();
+			}
+			if (child == null) {
+				generator.copyCurrentStructure(parser);
+			} else if (child.operation == Operation.REMOVE) {
+				parser.skipChildren();
+			} else if (child.operation == Operation.SET) {
+				parser.skipChildren();
+				writeValue(generator, child.value);
+			} else if (child.operation == Operation.RECREATE) {
+				parser.skipChildren();
+				writeCreated(generator, child, true, "");
+			} else {
+				copyValue(parser, generator, child);
+			}
+			index++;
+		}
+		writeAppended(generator, elements.subList(next, elements.size()), index);
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Writes a container that does not exist in the source, mirroring how
+	 * {@link JsonMother} creates missing intermediate nodes.
+	 */
+	private void writeCreated(JsonGenerator generator, Edit edit, boolean parentIsArray, String segment) {
+		if (edit.operation == Operation.SET) {
+			writeValue(generator, edit.value);
+			return;
+		}
+		String firstChild = edit.children.isEmpty() ? "" : edit.children.keySet().iterator().next();
+		boolean array = !parentIsArray
+				&& (PointerPath.toIndex(segment) != PointerPath.NO_INDEX
+						|| PointerPath.toIndex(firstChild) != PointerPath.NO_INDEX);
+		if (array) {
+			generator.writeStartArray();
+			writeAppended(generator, elements(edit), 0);
+			generator.writeEndArray();
+		} else {
+			generator.writeStartObject();
+			for (Map.Entry<String, Edit> entry : edit.children.entrySet()) {
+				if (entry.getValue().operation != Operation.REMOVE) {
+					generator.writeName(entry.getKey());
+					writeCreated(generator, entry.getValue(), false, entry.getKey());
+				}
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	private void writeAppended(JsonGenerator generator, List<Map.Entry<Integer, Edit>> elements, int size) {
+		int index = size;
+		for (Map.Entry<Integer, Edit> element : elements) {
+			if (element.getValue().operation == Operation.REMOVE) {
+				continue;
+			}
+			for (; index < element.getKey(); index++) {
+				generator.writeNull();
+			}
+			writeCreated(generator, element.getValue(), true, "");
+			index++;
+		}
+	}
+
+	private void writeValue(JsonGenerator generator, @Nullable Object value) {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof JsonNode jsonNode) {
+			generator.writeTree(jsonNode);
+		} else {
+			generator.writePOJO(value);
+		}
+	}
+
+	private static List<Map.Entry<Integer, Edit>> elements(Edit edit) {
+		List<Map.Entry<Integer, Edit>> elements = new ArrayList<>();
+		for (Map.Entry<String, Edit> entry : edit.children.entrySet()) {
+			int index = PointerPath.toIndex(entry.getKey());
+			if (index != PointerPath.NO_INDEX) {
+				elements.add(Map.entry(index, entry.getValue()));
+			}
+		}
+		elements.sort(Map.Entry.comparingByKey());
+		return elements;
+	}
+
+	private enum Operation {
+		/**
+		 * Only edits further down the path.
+		 */
+		NONE,
+		/**
+		 * Replaces the value.
+		 */
+		SET,
+		/**
+		 * Removes the value.
+		 */
+		REMOVE,
+		/**
+		 * Removes the value and creates a new one from the edits further down the
+		 * path.
+		 */
+		RECREATE
+	}
+
+	/**
+	 * A node in the tree of recorded edits, one node per pointer segment.
+	 */
+	private static final class Edit {
+		private final Map<String, Edit> children = new LinkedHashMap<>();
+		private Operation operation = Operation.NONE;
+		private @Nullable Object value;
+	}
+
+	@FunctionalInterface
+	interface InputOpener {
+		InputStream open() throws IOException;
+	}
+}
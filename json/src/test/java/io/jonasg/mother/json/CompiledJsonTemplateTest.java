@@ -0,0 +1,119 @@
+package io.jonasg.mother.json;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+class CompiledJsonTemplateTest {
+
+	@Test
+	void renderSuppliedValuesIntoSlots() throws JSONException {
+		CompiledJsonTemplate template = JsonMother.of("mother-data/book.json")
+				.compile("/title", "/id", "/genres/1/type");
+
+		String actual = template.renderString("The \"Old\" Man", 42L, null);
+
+		assertEquals("""
+				{
+				  "id": 42,
+				  "title": "The \\"Old\\" Man",
+				  "author": {
+				    "name": "F. Scott Fitzgerald"
+				  },
+				  "published": {
+				    "year": 1925
+				  },
+				  "genres": [
+				    { "type": "novel" },
+				    { "type": null }
+				  ]
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void renderMatchesBuildOfMotherWithSameValues() {
+		var book = JsonMother.of("mother-data/book.json")
+				.withProperty("/author/name", "Ernest Hemingway");
+		CompiledJsonTemplate template = book.compile("/id", "/published", "/author/born");
+
+		byte[] actual = template.render(7, Map.of("year", 1952), true);
+
+		String expected = book.fork()
+				.withProperty("/id", 7)
+				.withProperty("/published", Map.of("year", 1952))
+				.withProperty("/author/born", true)
+				.build(JsonLayout.COMPACT);
+		Assertions.assertEquals(expected, new String(actual, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void renderUsesSerializersOfFactoryMapper() {
+		var objectMapper = JsonMapper.builder()
+				.addModule(new SimpleModule().addSerializer(Integer.class, new ValueSerializer<Integer>() {
+					@Override
+					public void serialize(Integer value, JsonGenerator generator, SerializationContext context) {
+						generator.writeString("#" + value);
+					}
+				}))
+				.build();
+		var book = JsonMotherFactory.of(objectMapper).of("mother-data/book.json");
+		CompiledJsonTemplate template = book.compile("/id", "/title");
+
+		byte[] actual = template.render(7, "The Old Man and the Sea");
+
+		String expected = book.fork()
+				.withProperty("/id", 7)
+				.withProperty("/title", "The Old Man and the Sea")
+				.build(JsonLayout.COMPACT);
+		Assertions.assertEquals(expected, new String(actual, StandardCharsets.UTF_8));
+		Assertions.assertTrue(expected.contains("\"id\":\"#7\""));
+	}
+
+	@Test
+	void compilingDoesNotModifyMother() {
+		var book = JsonMother.of("mother-data/book.json");
+		String before = book.build();
+
+		book.compile("/title", "/extra");
+
+		Assertions.assertEquals(before, book.build());
+	}
+
+	@Test
+	void renderToStream() {
+		CompiledJsonTemplate template = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.compile("/id");
+		var out = new ByteArrayOutputStream();
+
+		template.renderTo(out, 1);
+		template.renderTo(out, 2);
+
+		Assertions.assertEquals(template.renderString(1) + template.renderString(2),
+				out.toString(StandardCharsets.UTF_8));
+		Assertions.assertEquals(List.of(JsonMother.path("/id")), template.paths());
+	}
+
+	@Test
+	void rejectInvalidPointersAndValueCounts() {
+		var book = JsonMother.of("mother-data/book.json");
+
+		assertThrows(IllegalArgumentException.class, () -> book.compile(""));
+		assertThrows(IllegalArgumentException.class, () -> book.compile("/genres/*/type"));
+		assertThrows(IllegalArgumentException.class, () -> book.compile("/author/name", "/author"));
+		assertThrows(IllegalArgumentException.class, () -> book.compile("/id").render(1, 2));
+	}
+}
@@ -0,0 +1,109 @@
+package io.jonasg.mother.json;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLinesWriterTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void writeDocumentsAsJsonLines() throws IOException {
+		Path file = directory.resolve("books.jsonl");
+
+		JsonLinesReport report = JsonLinesWriter.of(file)
+				.withBufferSize(16)
+				.write(JsonMother.of(JsonLinesWriterTest.class, "package-book.json"), 3,
+						(i, book) -> book.withProperty("/id", i));
+
+		assertEquals(List.of(
+				"{\"id\":0,\"title\":\"Package Test Book\"}",
+				"{\"id\":1,\"title\":\"Package Test Book\"}",
+				"{\"id\":2,\"title\":\"Package Test Book\"}"), Files.readAllLines(file));
+		assertEquals(3, report.records());
+		assertEquals(Files.size(file), report.bytes());
+		assertEquals(List.of(file), report.files());
+		assertTrue(report.recordsPerSecond() > 0);
+		assertTrue(report.megabytesPerSecond() > 0);
+	}
+
+	@Test
+	void rollOverToNewFiles() throws IOException {
+		Path file = directory.resolve("books.jsonl");
+
+		JsonLinesReport report = JsonLinesWriter.of(file)
+				.withRollSize(70)
+				.write(JsonMother.of(JsonLinesWriterTest.class, "package-book.json"), 5,
+						(i, book) -> book.withProperty("/id", i));
+
+		assertEquals(List.of(
+				directory.resolve("books-00000.jsonl"),
+				directory.resolve("books-00001.jsonl"),
+				directory.resolve("books-00002.jsonl")), report.files());
+		assertEquals(2, Files.readAllLines(report.files().get(0)).size());
+		assertEquals(2, Files.readAllLines(report.files().get(1)).size());
+		assertEquals(List.of("{\"id\":4,\"title\":\"Package Test Book\"}"),
+				Files.readAllLines(report.files().get(2)));
+	}
+
+	@Test
+	void writeEmptyStreamToIndexedFileWhenRollingOver() throws IOException {
+		Path file = directory.resolve("books.jsonl");
+
+		JsonLinesReport report = JsonLinesWriter.of(file)
+				.withRollSize(70)
+				.write(Stream.empty());
+
+		assertEquals(List.of(directory.resolve("books-00000.jsonl")), report.files());
+		assertEquals(0, Files.size(report.files().get(0)));
+		assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void formatFileNamesAndReportIndependentOfDefaultLocale() {
+		Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.forLanguageTag("ar-EG"));
+		try {
+			JsonLinesReport report = JsonLinesWriter.of(directory.resolve("books.jsonl"))
+					.withRollSize(70)
+					.write(Stream.of("{}".getBytes(StandardCharsets.UTF_8)));
+
+			assertEquals(List.of(directory.resolve("books-00000.jsonl")), report.files());
+			assertTrue(report.toString().startsWith("1 records (0.0 MB) in 1 file(s) in "), report.toString());
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	@Test
+	void writeGzipCompressedJsonLines() throws IOException {
+		Path file = directory.resolve("books.jsonl.gz");
+
+		JsonLinesReport report = JsonLinesWriter.of(file)
+				.withGzip()
+				.write(JsonMother.of(JsonLinesWriterTest.class, "package-book.json"), 1_000,
+						(i, book) -> book.withProperty("/id", i));
+
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+			List<String> lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+			assertEquals(1_000, lines.size());
+			assertEquals("{\"id\":999,\"title\":\"Package Test Book\"}", lines.get(999));
+		}
+		assertTrue(Files.size(file) < report.bytes());
+	}
+}
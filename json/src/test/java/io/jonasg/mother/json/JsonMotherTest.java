@@ -1,10 +1,33 @@
 package io.jonasg.mother.json;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.jonasg.mother.core.BuildCache;
+import io.jonasg.mother.core.MotherMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.json.JSONException;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
@@ -488,17 +511,747 @@ class JsonMotherTest {
 		assertThrows(IllegalArgumentException.class, () -> JsonMother.of(JsonMotherTest.class, "nonexistent.json"));
 	}
 
+	@Test
+	void loadingSameFileTwiceIsServedFromTemplateCache() {
+		var cache = JsonMother.templateCache(JsonMother.class.getClassLoader());
+		JsonMother.of("mother-data/book.json");
+		long hits = cache.hitCount();
+		long misses = cache.missCount();
+
+		JsonMother.of("mother-data/book.json");
+
+		Assertions.assertEquals(hits + 1, cache.hitCount());
+		Assertions.assertEquals(misses, cache.missCount());
+	}
+
+	@Test
+	void modificationsDoNotLeakIntoTemplateCache() throws JSONException {
+		JsonMother.of("mother-data/book.json")
+				.withProperty("/title", "Modified")
+				.withRemovedProperty("/author");
+
+		String actual = JsonMother.of("mother-data/book.json").build();
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "The Great Gatsby",
+				  "author": {
+				    "name": "F. Scott Fitzgerald"
+				  },
+				  "published": {
+				    "year": 1925
+				  },
+				  "genres": [
+				    {
+				      "type": "novel"
+				    },
+				    {
+				      "type": "fiction"
+				    }
+				  ]
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void templateCacheEvictsLeastRecentlyUsedTemplate() {
+		var cache = new JsonTemplateCache(1);
+		var mapper = new ObjectMapper();
+
+		cache.get("a.json", path -> mapper.createObjectNode());
+		cache.get("b.json", path -> mapper.createObjectNode());
+		cache.get("a.json", path -> mapper.createObjectNode());
+
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertEquals(0, cache.hitCount());
+		Assertions.assertEquals(3, cache.missCount());
+	}
+
+	@Test
+	void factoryUsesProvidedObjectMapper() throws JSONException {
+		var objectMapper = JsonMapper.builder()
+				.changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
+				.build();
+
+		String actual = JsonMotherFactory.of(objectMapper)
+				.of(JsonMotherTest.class, "package-book.json")
+				.withProperty("/prop", new TestData(null, 2))
+				.build();
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "Package Test Book",
+				  "prop": {
+				    "value": 2
+				  }
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void forkDoesNotAffectParent() throws JSONException {
+		var base = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.withProperty("/author/name", "Ernest Hemingway");
+
+		String forked = base.fork()
+				.withProperty("/author/name", "F. Scott Fitzgerald")
+				.withRemovedProperty("/title")
+				.build();
+		String actual = base.build();
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "Package Test Book",
+				  "author": {
+				    "name": "Ernest Hemingway"
+				  }
+				}
+				""", actual, true);
+		assertEquals("""
+				{
+				  "id": 1,
+				  "author": {
+				    "name": "F. Scott Fitzgerald"
+				  }
+				}
+				""", forked, true);
+	}
+
+	@Test
+	void parentModificationsDoNotAffectFork() throws JSONException {
+		var base = JsonMother.of("mother-data/book.json");
+		var fork = base.fork();
+
+		base.withProperty("/genres/0/type", "drama")
+				.withRemovedProperty("/genres/1")
+				.withProperty("/author/name", "Ernest Hemingway");
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "The Great Gatsby",
+				  "author": {
+				    "name": "F. Scott Fitzgerald"
+				  },
+				  "published": {
+				    "year": 1925
+				  },
+				  "genres": [
+				    {
+				      "type": "novel"
+				    },
+				    {
+				      "type": "fiction"
+				    }
+				  ]
+				}
+				""", fork.build(), true);
+	}
+
+	@Test
+	void forksOfForkAreIndependent() throws JSONException {
+		var base = JsonMother.of(JsonMotherTest.class, "package-book.json");
+		var first = base.fork().withProperty("/tags/0", "first");
+		var second = first.fork().withProperty("/tags/1", "second");
+
+		first.withProperty("/tags/0", "changed");
+
+		assertEquals("""
+				{ "id": 1, "title": "Package Test Book", "tags": ["changed"] }
+				""", first.build(), true);
+		assertEquals("""
+				{ "id": 1, "title": "Package Test Book", "tags": ["first", "second"] }
+				""", second.build(), true);
+		assertEquals("""
+				{ "id": 1, "title": "Package Test Book" }
+				""", base.build(), true);
+	}
+
+	@Test
+	void modifyPropertiesUsingCompiledPaths() throws JSONException {
+		var title = JsonMother.path("/title");
+		var firstTranslation = JsonMother.path("/translations/0/language");
+
+		String actual = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.withProperty(firstTranslation, "French")
+				.withProperty(title, "Compiled")
+				.withRemovedProperty(JsonMother.path("/id"))
+				.build();
+
+		assertEquals("""
+				{
+				  "title": "Compiled",
+				  "translations": [
+				    {
+				      "language": "French"
+				    }
+				  ]
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void compiledPathUnescapesSegments() throws JSONException {
+		String actual = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.withProperty(JsonMother.path("/a~1b/c~0d"), true)
+				.build();
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "Package Test Book",
+				  "a/b": {
+				    "c~d": true
+				  }
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void throwsWhenPointerDoesNotStartWithSlash() {
+		assertThrows(IllegalArgumentException.class, () -> JsonMother.path("author/name"));
+	}
+
+	@Test
+	void buildCompactBytes() {
+		byte[] actual = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.withProperty("/id", 2)
+				.buildBytes(JsonLayout.COMPACT);
+
+		Assertions.assertEquals("{\"id\":2,\"title\":\"Package Test Book\"}",
+				new String(actual, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void buildToOutputStreamLeavesStreamOpen() throws JSONException {
+		var outputStream = new ByteArrayOutputStream() {
+			boolean closed;
+
+			@Override
+			public void close() {
+				closed = true;
+			}
+		};
+
+		JsonMother.of(JsonMotherTest.class, "package-book.json").buildTo(outputStream);
+
+		Assertions.assertFalse(outputStream.closed);
+		assertEquals("""
+				{ "id": 1, "title": "Package Test Book" }
+				""", outputStream.toString(StandardCharsets.UTF_8), true);
+	}
+
+	@Test
+	void buildToWriter() {
+		var writer = new StringWriter();
+
+		JsonMother.of(JsonMotherTest.class, "package-book.json").buildTo(writer, JsonLayout.COMPACT);
+
+		Assertions.assertEquals("{\"id\":1,\"title\":\"Package Test Book\"}", writer.toString());
+	}
+
+	@Test
+	void buildToPath(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("book.json");
+
+		JsonMother.of(JsonMotherTest.class, "package-book.json").buildTo(file);
+
+		assertEquals("""
+				{ "id": 1, "title": "Package Test Book" }
+				""", Files.readString(file), true);
+	}
+
+	@Test
+	void generateDocuments() {
+		List<String> actual = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.generate(3, (i, book) -> book.withProperty("/id", i))
+				.map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+				.toList();
+
+		Assertions.assertEquals(List.of(
+				"{\"id\":0,\"title\":\"Package Test Book\"}",
+				"{\"id\":1,\"title\":\"Package Test Book\"}",
+				"{\"id\":2,\"title\":\"Package Test Book\"}"), actual);
+	}
+
+	@Test
+	void generateDocumentsInParallelKeepsOrder() {
+		var book = JsonMother.of("mother-data/book.json");
+
+		List<String> actual = book
+				.generate(1_000, (i, b) -> b.withProperty("/id", i).withProperty("/genres/0/type", "type-" + i))
+				.parallel()
+				.map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+				.toList();
+		book.withProperty("/genres/0/type", "changed");
+
+		Assertions.assertEquals(1_000, actual.size());
+		for (int i = 0; i < actual.size(); i++) {
+			Assertions.assertTrue(actual.get(i).startsWith("{\"id\":" + i + ","));
+			Assertions.assertTrue(actual.get(i).contains("\"type\":\"type-" + i + "\""));
+		}
+		Assertions.assertTrue(book.build().contains("changed"));
+	}
+
+	@Test
+	void frozenSnapshotDerivesIndependentMothersInParallel() throws JSONException {
+		var book = JsonMother.of("mother-data/book.json").withProperty("/author/name", "Ernest Hemingway");
+		FrozenJsonMother frozen = book.freeze();
+		book.withProperty("/author/name", "Leo Tolstoy");
+
+		List<String> titles = IntStream.range(0, 200)
+				.parallel()
+				.mapToObj(i -> frozen.mother()
+						.withProperty("/title", "Title " + i)
+						.withProperty("/genres/0/type", "genre " + i)
+						.build(JsonLayout.COMPACT))
+				.toList();
+
+		for (int i = 0; i < titles.size(); i++) {
+			assertEquals("{ \"title\": \"Title " + i + "\", \"author\": { \"name\": \"Ernest Hemingway\" },"
+					+ " \"genres\": [ { \"type\": \"genre " + i + "\" }, { \"type\": \"fiction\" } ] }",
+					titles.get(i), false);
+		}
+		assertEquals("{ \"title\": \"The Great Gatsby\", \"author\": { \"name\": \"Ernest Hemingway\" },"
+				+ " \"genres\": [ { \"type\": \"novel\" }, { \"type\": \"fiction\" } ] }", frozen.build(), false);
+	}
+
+	@Test
+	void deferredEditsAreAppliedOnBuild() throws JSONException {
+		var book = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.deferred()
+				.withProperty("/author/name", "F. Scott Fitzgerald")
+				.withProperty("/title", "Overridden")
+				.withProperty("/author/name", "Ernest Hemingway")
+				.withRemovedProperty("/id");
+
+		assertEquals("""
+				{
+				  "title": "Overridden",
+				  "author": {
+				    "name": "Ernest Hemingway"
+				  }
+				}
+				""", book.build(), true);
+	}
+
+	@Test
+	void deferredEditDiscardsEarlierEditsBelowIt() throws JSONException {
+		String actual = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.deferred()
+				.withProperty("/author/name", "F. Scott Fitzgerald")
+				.withProperty("/author/born", 1896)
+				.withProperty("/author", Map.of("name", "Ernest Hemingway"))
+				.withProperty("/translations/0/language", "French")
+				.withRemovedProperty("/translations")
+				.build();
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "Package Test Book",
+				  "author": {
+				    "name": "Ernest Hemingway"
+				  }
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void deferredEditsThroughIndexAfterRemovedElementMatchEagerEdits() throws JSONException {
+		assertEquals(JsonMother.of("mother-data/book.json")
+				.withRemovedProperty("/genres/0")
+				.withRemovedProperty("/genres/0")
+				.build(),
+				JsonMother.of("mother-data/book.json")
+						.deferred()
+						.withRemovedProperty("/genres/0")
+						.withRemovedProperty("/genres/0")
+						.build(),
+				true);
+		assertEquals(JsonMother.of("mother-data/book.json")
+				.withRemovedProperty("/genres/0")
+				.withProperty("/genres/0", "X")
+				.build(),
+				JsonMother.of("mother-data/book.json")
+						.deferred()
+						.withRemovedProperty("/genres/0")
+						.withProperty("/genres/0", "X")
+						.build(),
+				true);
+		assertEquals("{ \"genres\": [] }", JsonMother.of("mother-data/book.json")
+				.deferred()
+				.withRemovedProperty("/genres/0")
+				.withRemovedProperty("/genres/0")
+				.build(), false);
+		assertEquals("{ \"genres\": [\"X\"] }", JsonMother.of("mother-data/book.json")
+				.deferred()
+				.withRemovedProperty("/genres/0")
+				.withProperty("/genres/0", "X")
+				.build(), false);
+	}
+
+	@Test
+	void deferredPropertyEditsAppliedInOneTraversalMatchEagerEdits() throws JSONException {
+		var mapper = new ObjectMapper();
+		var actual = new ArrayList<String>();
+		for (boolean deferred : new boolean[] { false, true }) {
+			var book = JsonMother.of("mother-data/book.json");
+			if (deferred) {
+				book.deferred();
+			}
+			actual.add(book.withProperty("/author/name", "Ernest Hemingway")
+					.withProperty("/series/0/title", "First")
+					.withProperty("/author/born", 1899)
+					.withProperty("/series/2", "Third")
+					.withRemovedProperty("/genres/0")
+					.withProperty("/genres/0/tags/0", "classic")
+					.withProperty("/genres/0", mapper.createObjectNode().put("type", "drama"))
+					.withProperty("/published/year", 1952)
+					.withProperty("/published", mapper.createObjectNode().put("year", 1953))
+					.withProperty("/published/month", 9)
+					.withLazyArrayOf("/awards", 2, index -> "award " + index)
+					.build());
+		}
+
+		assertEquals(actual.get(0), actual.get(1), true);
+		assertEquals("""
+				{
+				  "author": { "name": "Ernest Hemingway", "born": 1899 },
+				  "series": [ { "title": "First" }, null, "Third" ],
+				  "genres": [ { "type": "drama" } ],
+				  "published": { "year": 1953, "month": 9 },
+				  "awards": [ "award 0", "award 1" ]
+				}
+				""", actual.get(1), false);
+	}
+
+	@Test
+	void deferredEditsAreAppliedBeforeFork() throws JSONException {
+		var base = JsonMother.of(JsonMotherTest.class, "package-book.json")
+				.deferred()
+				.withProperty("/id", 2);
+
+		var fork = base.fork().withProperty("/id", 3);
+
+		assertEquals("""
+				{ "id": 2, "title": "Package Test Book" }
+				""", base.build(), true);
+		assertEquals("""
+				{ "id": 3, "title": "Package Test Book" }
+				""", fork.build(), true);
+	}
+
+	@Test
+	void setsPropertyOnEveryArrayElementMatchedByWildcard() throws JSONException {
+		String actual = JsonMother.of("mother-data/book.json")
+				.withPropertyAll("/genres/*/type", "poetry")
+				.withPropertyAll("/genres/*/meta/source", "import")
+				.build();
+
+		assertEquals("""
+				{
+				  "genres": [
+				    { "type": "poetry", "meta": { "source": "import" } },
+				    { "type": "poetry", "meta": { "source": "import" } }
+				  ]
+				}
+				""", actual, false);
+	}
+
+	@Test
+	void computesPropertyPerElementMatchedByWildcard() throws JSONException {
+		String actual = JsonMother.of("mother-data/book.json")
+				.withPropertyAll("/genres/*/type", genre -> genre.get("type").asString().toUpperCase())
+				.withPropertyAll("/*/label", object -> object.size())
+				.build();
+
+		assertEquals("""
+				{
+				  "author": { "name": "F. Scott Fitzgerald", "label": 1 },
+				  "published": { "year": 1925, "label": 1 },
+				  "genres": [ { "type": "NOVEL" }, { "type": "FICTION" } ]
+				}
+				""", actual, false);
+	}
+
+	@Test
+	void editsBelowNodesSetOnEveryElementMatchedByWildcard() throws JSONException {
+		var mapper = new ObjectMapper();
+		String actual = JsonMother.of("mother-data/book.json")
+				.withPropertyAll("/genres/*/meta", mapper.createObjectNode().put("source", "import"))
+				.withPropertyAll("/genres/*/tags", genre -> mapper.createArrayNode().add(genre.get("type")))
+				.withProperty("/genres/0/meta/source", "manual")
+				.withRemovedProperty("/genres/1/meta/source")
+				.withProperty("/genres/1/tags/1", "classic")
+				.build();
+
+		assertEquals("""
+				{
+				  "genres": [
+				    { "type": "novel", "meta": { "source": "manual" }, "tags": [ "novel" ] },
+				    { "type": "fiction", "meta": {}, "tags": [ "fiction", "classic" ] }
+				  ]
+				}
+				""", actual, false);
+	}
+
+	@Test
+	void removesPropertyOnEveryElementMatchedByWildcard() throws JSONException {
+		var book = JsonMother.of("mother-data/book.json");
+		var fork = book.fork()
+				.withRemovedPropertyAll("/genres/*/type")
+				.withRemovedPropertyAll("/published/*");
+
+		assertEquals("""
+				{ "published": {}, "genres": [ {}, {} ] }
+				""", fork.build(), false);
+		assertEquals("""
+				{ "published": { "year": 1925 }, "genres": [ { "type": "novel" }, { "type": "fiction" } ] }
+				""", book.build(), false);
+	}
+
+	@Test
+	void setsArrayCreatedByElementFactory() throws JSONException {
+		String actual = JsonMother.of("mother-data/book.json")
+				.withArrayOf("/genres", 3, i -> Map.of("type", "genre-" + i))
+				.withArrayOf("/ratings", 2, i -> i * 5)
+				.withProperty("/genres/1/type", "fiction")
+				.build();
+
+		assertEquals("""
+				{
+				  "genres": [ { "type": "genre-0" }, { "type": "fiction" }, { "type": "genre-2" } ],
+				  "ratings": [ 0, 5 ]
+				}
+				""", actual, false);
+	}
+
+	@Test
+	void repeatsTemplateNodeAndCopiesOnlyModifiedElements() throws JSONException {
+		var book = JsonMother.of("mother-data/book.json")
+				.withArrayRepeated("/genres", 3, "/genres/0")
+				.withProperty("/genres/1/type", "fiction")
+				.withPropertyAll("/genres/*/rank", 1)
+				.withProperty("/genres/2/rank", 2);
+
+		assertEquals("""
+				{
+				  "genres": [
+				    { "type": "novel", "rank": 1 },
+				    { "type": "fiction", "rank": 1 },
+				    { "type": "novel", "rank": 2 }
+				  ]
+				}
+				""", book.build(), false);
+		assertThrows(IllegalArgumentException.class, () -> book.withArrayRepeated("/copies", 2, "/missing"));
+		assertThrows(IllegalArgumentException.class, () -> book.withArrayOf("/copies", -1, i -> i));
+	}
+
+	@Test
+	void repeatedElementsAreCopiedBeforeNestedEdits() throws JSONException {
+		var book = JsonMother.of("mother-data/book.json")
+				.withArrayRepeated("/shelves", 3, "/genres")
+				.withProperty("/shelves/1/0/type", "poetry")
+				.withRemovedProperty("/shelves/2/1/type");
+		var fork = book.fork().withProperty("/shelves/0/1/type", "drama");
+
+		assertEquals("""
+				{
+				  "genres": [ { "type": "novel" }, { "type": "fiction" } ],
+				  "shelves": [
+				    [ { "type": "novel" }, { "type": "fiction" } ],
+				    [ { "type": "poetry" }, { "type": "fiction" } ],
+				    [ { "type": "novel" }, {} ]
+				  ]
+				}
+				""", book.build(), false);
+		assertEquals("""
+				{
+				  "shelves": [
+				    [ { "type": "novel" }, { "type": "drama" } ],
+				    [ { "type": "poetry" }, { "type": "fiction" } ],
+				    [ { "type": "novel" }, {} ]
+				  ]
+				}
+				""", fork.build(), false);
+	}
+
+	@Test
+	void lazyArrayCreatesElementsWhileBuilding() throws JSONException {
+		var created = new int[1];
+		var book = JsonMother.of("mother-data/book.json")
+				.withLazyArrayOf("/genres", 3, i -> {
+					created[0]++;
+					return i == 1 ? null : Map.of("type", "genre-" + i);
+				});
+
+		Assertions.assertEquals(0, created[0]);
+		assertEquals("""
+				{ "genres": [ { "type": "genre-0" }, null, { "type": "genre-2" } ] }
+				""", book.build(), false);
+		Assertions.assertEquals(3, created[0]);
+	}
+
+	@Test
+	void buildCacheReturnsOutputOfIdenticalMotherAndFork() throws JSONException {
+		var cache = BuildCache.of(8);
+		String first = JsonMother.of("mother-data/book.json")
+				.withBuildCache(cache)
+				.withProperty("/author/name", "Ernest Hemingway")
+				.withProperty("/published", Map.of("year", 1952))
+				.build();
+
+		var base = JsonMother.of("mother-data/book.json")
+				.withBuildCache(cache)
+				.withProperty("/author/name", "Ernest Hemingway");
+		String second = base.fork()
+				.withProperty("/published", Map.of("year", 1952))
+				.build();
+		String changed = base.withProperty("/published", Map.of("year", 1953)).build();
+		String uncacheable = JsonMother.ofJson("{\"title\": \"Fiesta\"}").withBuildCache(cache).build();
+
+		Assertions.assertSame(first, second);
+		assertEquals("{ \"published\": { \"year\": 1953 } }", changed, false);
+		assertEquals("{ \"title\": \"Fiesta\" }", uncacheable, false);
+		Assertions.assertEquals(1, cache.hitCount());
+		Assertions.assertEquals(2, cache.missCount());
+		assertThrows(IllegalStateException.class,
+				() -> JsonMother.of("mother-data/book.json").withProperty("/id", 2).withBuildCache());
+	}
+
+	@Test
+	void buildSmile() {
+		var book = JsonMother.of("mother-data/book.json")
+				.withProperty("/author/name", "Ernest Hemingway");
+
+		byte[] smile = book.buildBinary(BinaryFormat.SMILE);
+
+		var mapper = new ObjectMapper();
+		Assertions.assertEquals(mapper.readTree(book.build()), new SmileMapper().readTree(smile));
+	}
+
+	@Test
+	void buildCborToStream() {
+		var book = JsonMother.of("mother-data/book.json")
+				.withProperty("/genres/0/type", "drama");
+		var out = new ByteArrayOutputStream();
+
+		book.buildBinaryTo(out, BinaryFormat.CBOR);
+
+		var mapper = new ObjectMapper();
+		Assertions.assertEquals(mapper.readTree(book.build()), new CBORMapper().readTree(out.toByteArray()));
+	}
+
+	@Test
+	void emitsFlightRecorderEventsForLoadAndBuild(@TempDir Path tempDir) throws IOException {
+		Path dump = tempDir.resolve("recording.jfr");
+		byte[] json;
+		try (var recording = new Recording()) {
+			recording.enable("io.jonasg.mother.Load").withThreshold(Duration.ZERO);
+			recording.enable("io.jonasg.mother.Build").withThreshold(Duration.ZERO);
+			recording.start();
+
+			JsonMother.templateCache(JsonMother.class.getClassLoader()).clear();
+			json = JsonMother.of("mother-data/book.json")
+					.withProperty("/title", "The Old Man and the Sea")
+					.withRemovedProperty("/genres")
+					.buildBytes(JsonLayout.COMPACT);
+			JsonMother.of("mother-data/book.json");
+
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<RecordedEvent> loads = RecordingFile.readAllEvents(dump).stream()
+				.filter(event -> event.getEventType().getName().equals("io.jonasg.mother.Load"))
+				.toList();
+		Assertions.assertEquals(2, loads.size());
+		Assertions.assertFalse(loads.get(0).getBoolean("cacheHit"));
+		Assertions.assertTrue(loads.get(0).getLong("size") > 0);
+		Assertions.assertTrue(loads.get(1).getBoolean("cacheHit"));
+
+		RecordedEvent build = RecordingFile.readAllEvents(dump).stream()
+				.filter(event -> event.getEventType().getName().equals("io.jonasg.mother.Build"))
+				.findFirst()
+				.orElseThrow();
+		Assertions.assertEquals("JsonMother", build.getString("mother"));
+		Assertions.assertEquals("mother-data/book.json", build.getString("resource"));
+		Assertions.assertEquals("COMPACT", build.getString("format"));
+		Assertions.assertEquals(2, build.getInt("edits"));
+		Assertions.assertEquals(json.length, build.getLong("size"));
+	}
+
+	@Test
+	void runsWithoutMetricsByDefault() {
+		RecordingMotherMetrics.CALLS.clear();
+
+		JsonMother.of("mother-data/book.json")
+				.withProperty("/title", "The Old Man and the Sea")
+				.build();
+
+		Assertions.assertFalse(MotherMetrics.instance() instanceof RecordingMotherMetrics);
+		Assertions.assertEquals(List.of(), RecordingMotherMetrics.CALLS);
+	}
+
+	@Test
+	void loadFromFileSystemPath(@TempDir Path tempDir) throws IOException, JSONException {
+		Path file = tempDir.resolve("book.json");
+		Files.writeString(file, JsonMother.of("mother-data/book.json").build());
+
+		String actual = JsonMother.of(file)
+				.withProperty("/title", "Tender Is the Night")
+				.build();
+
+		assertEquals("""
+				{ "id": 1, "title": "Tender Is the Night", "genres": [ { "type": "novel" }, { "type": "fiction" } ] }
+				""", actual, false);
+	}
+
+	@Test
+	void loadFromBytesStreamAndString() throws JSONException {
+		String json = """
+				{ "title": "The Great Gatsby", "author": { "name": "F. Scott Fitzgerald" } }
+				""";
+		var inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+			boolean closed;
+
+			@Override
+			public void close() {
+				closed = true;
+			}
+		};
+
+		assertEquals(json, JsonMother.of(json.getBytes(StandardCharsets.UTF_8)).build(), true);
+		assertEquals(json, JsonMother.of(inputStream).build(), true);
+		assertEquals(json, JsonMother.ofJson(json).withProperty("/id", 1).withRemovedProperty("/id").build(), true);
+		Assertions.assertFalse(inputStream.closed);
+	}
+
+	@Test
+	void throwsWhenContentIsNotAnObject(@TempDir Path tempDir) throws IOException {
+		Path file = Files.writeString(tempDir.resolve("array.json"), "[1, 2]");
+
+		var exception = assertThrows(IllegalArgumentException.class, () -> JsonMother.of(file));
+
+		Assertions.assertTrue(exception.getMessage().contains("array.json"));
+		assertThrows(IllegalArgumentException.class, () -> JsonMother.ofJson("\"title\""));
+	}
+
 	@SuppressWarnings("unused")
 	public static class TestData {
-		private String name;
+		private @Nullable String name;
 		private int value;
 
-		public TestData(String name, int value) {
+		public TestData(@Nullable String name, int value) {
 			this.name = name;
 			this.value = value;
 		}
 
-		public String getName() {
+		public @Nullable String getName() {
 			return name;
 		}
 
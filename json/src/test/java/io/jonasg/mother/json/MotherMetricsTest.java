@@ -0,0 +1,36 @@
+package io.jonasg.mother.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Runs in its own surefire execution that registers {@link RecordingMotherMetrics}
+ * through {@code src/test/metrics}, so that all other tests run without a
+ * {@link io.jonasg.mother.core.MotherMetrics} implementation.
+ */
+class MotherMetricsTest {
+
+	@Test
+	void reportsLoadEditAndBuildToRegisteredMetrics() {
+		JsonMother.templateCache(JsonMother.class.getClassLoader()).clear();
+		RecordingMotherMetrics.CALLS.clear();
+
+		byte[] json = JsonMother.of("mother-data/book.json")
+				.withProperty("/title", "The Old Man and the Sea")
+				.withRemovedPropertyAll("/genres/*/type")
+				.buildBytes(JsonLayout.COMPACT);
+		JsonMother.of("mother-data/book.json");
+
+		Assertions.assertEquals(6, RecordingMotherMetrics.CALLS.size());
+		Assertions.assertTrue(RecordingMotherMetrics.CALLS.get(0).startsWith("parsed JsonMother mother-data/book.json "));
+		Assertions.assertEquals(List.of(
+				"loaded JsonMother mother-data/book.json miss",
+				"edited JsonMother withProperty",
+				"edited JsonMother withRemovedPropertyAll",
+				"built JsonMother mother-data/book.json COMPACT " + json.length,
+				"loaded JsonMother mother-data/book.json hit"),
+				RecordingMotherMetrics.CALLS.subList(1, 6));
+	}
+}
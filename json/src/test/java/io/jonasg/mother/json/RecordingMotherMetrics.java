@@ -0,0 +1,35 @@
+package io.jonasg.mother.json;
+
+import io.jonasg.mother.core.MotherMetrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registered through {@code src/test/metrics/META-INF/services} to verify the
+ * {@link MotherMetrics} callbacks, only for {@link MotherMetricsTest}.
+ */
+public class RecordingMotherMetrics implements MotherMetrics {
+
+	static final List<String> CALLS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void resourceLoaded(String mother, String resource, boolean cacheHit) {
+		CALLS.add("loaded " + mother + " " + resource + " " + (cacheHit ? "hit" : "miss"));
+	}
+
+	@Override
+	public void parsed(String mother, String resource, long size, long durationNanos) {
+		CALLS.add("parsed " + mother + " " + resource + " " + size);
+	}
+
+	@Override
+	public void edited(String mother, String operation) {
+		CALLS.add("edited " + mother + " " + operation);
+	}
+
+	@Override
+	public void built(String mother, String resource, String format, long durationNanos, long size) {
+		CALLS.add("built " + mother + " " + resource + " " + format + " " + size);
+	}
+}
@@ -0,0 +1,174 @@
+package io.jonasg.mother.json;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+class StreamingJsonMotherTest {
+
+	@Test
+	void streamWithoutModification() throws JSONException {
+		String actual = build(JsonMother.streaming("mother-data/book.json"));
+
+		assertEquals(JsonMother.of("mother-data/book.json").build(), actual, true);
+	}
+
+	@Test
+	void overrideAndRemoveExistingProperties() throws JSONException {
+		String actual = build(JsonMother.streaming("mother-data/book.json")
+				.withProperty("/author/name", "Ernest Hemingway")
+				.withProperty("/genres/1/type", "drama")
+				.withRemovedProperty("/title")
+				.withRemovedProperty("/genres/0"));
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "author": {
+				    "name": "Ernest Hemingway"
+				  },
+				  "published": {
+				    "year": 1925
+				  },
+				  "genres": [
+				    {
+				      "type": "drama"
+				    }
+				  ]
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void addNewPropertiesAndArrayElements() throws JSONException {
+		String actual = build(JsonMother.streaming("mother-data/book.json")
+				.withProperty("/published/month", 4)
+				.withProperty("/genres/3/type", "thriller")
+				.withProperty("/translations/0/language", "French")
+				.withProperty("/prop", Map.of("key", "value")));
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "The Great Gatsby",
+				  "author": {
+				    "name": "F. Scott Fitzgerald"
+				  },
+				  "published": {
+				    "year": 1925,
+				    "month": 4
+				  },
+				  "genres": [
+				    {
+				      "type": "novel"
+				    },
+				    {
+				      "type": "fiction"
+				    },
+				    null,
+				    {
+				      "type": "thriller"
+				    }
+				  ],
+				  "translations": [
+				    {
+				      "language": "French"
+				    }
+				  ],
+				  "prop": {
+				    "key": "value"
+				  }
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void removedPropertyIsRecreatedByNestedEdit() throws JSONException {
+		String actual = build(JsonMother.streaming("mother-data/book.json")
+				.withRemovedProperty("/author")
+				.withProperty("/author/alias", "Scott"));
+
+		assertEquals("""
+				{
+				  "id": 1,
+				  "title": "The Great Gatsby",
+				  "author": {
+				    "alias": "Scott"
+				  },
+				  "published": {
+				    "year": 1925
+				  },
+				  "genres": [
+				    {
+				      "type": "novel"
+				    },
+				    {
+				      "type": "fiction"
+				    }
+				  ]
+				}
+				""", actual, true);
+	}
+
+	@Test
+	void nestedEditsApplyToValueSetAsWhole() throws JSONException {
+		ObjectNode author = JsonNodeFactory.instance.objectNode().put("name", "Scott").put("age", 44);
+
+		String actual = build(JsonMother.streaming("mother-data/book.json")
+				.withProperty("/author", author)
+				.withProperty("/author/name", "F. Scott Fitzgerald")
+				.withRemovedProperty("/author/age")
+				.withProperty("/genres", List.of(Map.of("type", "novel"), Map.of("type", "fiction")))
+				.withRemovedProperty("/genres/0")
+				.withProperty("/genres/0/type", "drama"));
+
+		assertEquals(JsonMother.of("mother-data/book.json")
+				.withProperty("/author", author.deepCopy())
+				.withProperty("/author/name", "F. Scott Fitzgerald")
+				.withRemovedProperty("/author/age")
+				.withProperty("/genres", List.of(Map.of("type", "novel"), Map.of("type", "fiction")))
+				.withRemovedProperty("/genres/0")
+				.withProperty("/genres/0/type", "drama")
+				.build(), actual, true);
+		assertEquals("{\"name\":\"Scott\",\"age\":44}", author.toString(), true);
+	}
+
+	@Test
+	void streamFromPathToPath(@TempDir Path directory) throws IOException, JSONException {
+		Path source = directory.resolve("source.json");
+		Path target = directory.resolve("target.json");
+		JsonMother.of("mother-data/book.json").buildTo(source);
+
+		JsonMother.streaming(source)
+				.withProperty("/id", 2)
+				.buildTo(target, JsonLayout.COMPACT);
+
+		assertEquals(JsonMother.of("mother-data/book.json").withProperty("/id", 2).build(),
+				Files.readString(target), true);
+	}
+
+	@Test
+	void throwsWhenReplacingRoot() {
+		assertThrows(IllegalArgumentException.class,
+				() -> JsonMother.streaming("mother-data/book.json").withProperty("", Map.of()));
+	}
+
+	private static String build(StreamingJsonMother mother) {
+		var outputStream = new ByteArrayOutputStream();
+		mother.buildTo(outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+}
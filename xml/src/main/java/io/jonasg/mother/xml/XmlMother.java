@@ -1,9 +1,16 @@
 package io.jonasg.mother.xml;
 
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.util.List;
 
+import io.jonasg.mother.core.BuildCache;
+import io.jonasg.mother.core.BuildRecording;
+import io.jonasg.mother.core.CountingInputStream;
+import io.jonasg.mother.core.EditFingerprint;
+import io.jonasg.mother.core.LoadRecording;
+import io.jonasg.mother.core.MotherBuildEvent;
+import io.jonasg.mother.core.MotherMetrics;
 import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -28,17 +35,30 @@ import javax.xml.xpath.XPathFactory;
  */
 public class XmlMother {
 
+	private static final String MOTHER = "XmlMother";
+
 	private final Document document;
 	private final Element rootElement;
 	private final XPath xpath;
+	private final String resource;
+	private int editCount;
+	private @Nullable BuildCache buildCache;
+	private @Nullable EditFingerprint fingerprint;
 
 	protected XmlMother(String filePath) {
+		this.resource = filePath;
+		var recording = LoadRecording.start(MOTHER, filePath);
 		try {
 			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 			DocumentBuilder builder = factory.newDocumentBuilder();
-			try (Reader reader = readerForFile(filePath)) {
-				document = builder.parse(new org.xml.sax.InputSource(reader));
+			try (InputStream inputStream = openFile(filePath)) {
+				var countingStream = new CountingInputStream(inputStream);
+				long parseStart = System.nanoTime();
+				// the parser detects the encoding from the bytes of the document
+				document = builder.parse(new org.xml.sax.InputSource(countingStream));
+				recording.parsed(countingStream.count(), System.nanoTime() - parseStart);
 			}
+			recording.finish();
 			rootElement = document.getDocumentElement();
 			xpath = XPathFactory.newInstance().newXPath();
 		} catch (Exception e) {
@@ -115,6 +135,7 @@ public class XmlMother {
 
 			if (elementXPath.isEmpty() || elementXPath.equals("//") || elementXPath.equals("/")
 					|| elementXPath.contains("@")) {
+				edited("withElement", xpath, value);
 				rootElement.setAttribute(attrName, String.valueOf(value));
 				return this;
 			}
@@ -124,6 +145,7 @@ public class XmlMother {
 				throw new IllegalArgumentException("Element not found: " + elementXPath);
 			}
 			Element element = (Element) elements.item(0);
+			edited("withElement", xpath, value);
 			element.setAttribute(attrName, String.valueOf(value));
 			return this;
 		}
@@ -136,9 +158,11 @@ public class XmlMother {
 		org.w3c.dom.Node node = nodes.item(0);
 		if (node.getNodeType() == org.w3c.dom.Node.ATTRIBUTE_NODE) {
 			org.w3c.dom.Attr attr = (org.w3c.dom.Attr) node;
+			edited("withElement", xpath, value);
 			attr.setValue(String.valueOf(value));
 		} else if (node.getNodeType() == org.w3c.dom.Node.ELEMENT_NODE) {
 			Element element = (Element) node;
+			edited("withElement", xpath, value);
 			element.setTextContent(String.valueOf(value));
 		} else {
 			throw new IllegalArgumentException("Unsupported node type: " + node.getNodeType());
@@ -160,6 +184,7 @@ public class XmlMother {
 	 */
 	public XmlMother withAttribute(String xpathExpr, String attributeName, @Nullable Object value) {
 		if (xpathExpr == null || xpathExpr.isEmpty()) {
+			edited("withAttribute", xpathExpr, attributeName, String.valueOf(value));
 			rootElement.setAttribute(attributeName, String.valueOf(value));
 			return this;
 		}
@@ -173,6 +198,7 @@ public class XmlMother {
 		}
 
 		Element element = (Element) nodes.item(0);
+		edited("withAttribute", xpathExpr, attributeName, String.valueOf(value));
 		element.setAttribute(attributeName, String.valueOf(value));
 		return this;
 	}
@@ -193,6 +219,7 @@ public class XmlMother {
 		if (nodes.getLength() == 0) {
 			throw new IllegalArgumentException("Element not found for XPath: " + xpathExpr);
 		}
+		edited("withRemovedElement", xpathExpr);
 
 		for (int i = 0; i < nodes.getLength(); i++) {
 			Node node = nodes.item(i);
@@ -205,12 +232,55 @@ public class XmlMother {
 		return this;
 	}
 
+	/**
+	 * Enables the {@link BuildCache#shared() shared} build cache for this mother.
+	 *
+	 * @return the current XmlMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 * @see #withBuildCache(BuildCache)
+	 */
+	public XmlMother withBuildCache() {
+		return withBuildCache(BuildCache.shared());
+	}
+
+	/**
+	 * Enables the given build cache for this mother.
+	 * <p>
+	 * Every subsequent edit is fingerprinted. Building returns the output stored
+	 * for a mother of the same file with identical edits, if any, without
+	 * transforming the document again.
+	 * </p>
+	 *
+	 * @param cache
+	 *            the cache to store the built outputs in
+	 * @return the current XmlMother instance for method chaining
+	 * @throws IllegalStateException
+	 *             if the mother has already been edited
+	 */
+	public XmlMother withBuildCache(BuildCache cache) {
+		if (editCount > 0) {
+			throw new IllegalStateException("The build cache must be enabled before the first edit");
+		}
+		buildCache = cache;
+		fingerprint = EditFingerprint.of(List.of(getClass(), resource));
+		return this;
+	}
+
 	/**
 	 * Builds the final XML string based on the current state of the XML structure.
 	 *
 	 * @return the XML string representation
 	 */
 	public String build() {
+		if (buildCache != null && fingerprint != null) {
+			return buildCache.get(fingerprint, "XML", this::write);
+		}
+		return write();
+	}
+
+	private String write() {
+		var recording = BuildRecording.start();
 		try {
 			var transformerFactory = TransformerFactory.newInstance();
 			var transformer = transformerFactory.newTransformer();
@@ -220,12 +290,24 @@ public class XmlMother {
 			StringWriter writer = new StringWriter();
 			StreamResult result = new StreamResult(writer);
 			transformer.transform(domSource, result);
-			return writer.toString();
+			String xml = writer.toString();
+			if (recording.shouldRecord()) {
+				recording.record(MOTHER, resource, "XML", editCount, MotherBuildEvent.utf8Length(xml));
+			}
+			return xml;
 		} catch (Exception e) {
 			throw new RuntimeException("Error building XML", e);
 		}
 	}
 
+	private void edited(String operation, @Nullable Object... arguments) {
+		editCount++;
+		MotherMetrics.instance().edited(MOTHER, operation);
+		if (fingerprint != null) {
+			fingerprint.add(operation, arguments);
+		}
+	}
+
 	private NodeList evaluateNodeSet(String xpathExpr) {
 		try {
 			return (NodeList) xpath.evaluate(xpathExpr, document, XPathConstants.NODESET);
@@ -234,11 +316,11 @@ public class XmlMother {
 		}
 	}
 
-	private Reader readerForFile(String filePath) {
+	private InputStream openFile(String filePath) {
 		var inputStream = this.getClass().getClassLoader().getResourceAsStream(filePath);
 		if (inputStream == null) {
 			throw new IllegalArgumentException("Unable to open file: " + filePath);
 		}
-		return new InputStreamReader(inputStream);
+		return inputStream;
 	}
 }
@@ -1,10 +1,12 @@
 package io.jonasg.mother.xml;
 
+import io.jonasg.mother.core.BuildCache;
 import org.junit.jupiter.api.Test;
 import org.xmlunit.assertj.XmlAssert;
 
 import java.io.InputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class XmlMotherTest {
@@ -24,6 +26,18 @@ class XmlMotherTest {
 		}
 	}
 
+	@Test
+	void decodesDocumentInItsDeclaredEncoding() {
+		// given
+		var builder = XmlMother.of("mother-data/latin1-book.xml");
+
+		// when
+		String actual = builder.build();
+
+		// then
+		XmlAssert.assertThat(actual).valueByXPath("//title").isEqualTo("Caf\u00e9 Society");
+	}
+
 	@Test
 	void withElementUpdatesValue() {
 		// given
@@ -201,4 +215,25 @@ class XmlMotherTest {
 				.isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("File name must not contain path separators");
 	}
+
+	@Test
+	void buildCacheReturnsOutputOfIdenticalMother() {
+		// given
+		var cache = BuildCache.of(8);
+		String first = XmlMother.of("mother-data/book.xml")
+				.withBuildCache(cache)
+				.withElement("//title", "Fiesta")
+				.build();
+
+		// when
+		String second = XmlMother.of("mother-data/book.xml")
+				.withBuildCache(cache)
+				.withElement("//title", "Fiesta")
+				.build();
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(cache.hitCount()).isEqualTo(1);
+		XmlAssert.assertThat(second).valueByXPath("//title").isEqualTo("Fiesta");
+	}
 }